@@ -0,0 +1,292 @@
+package benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.calendar.Calendar;
+import model.calendar.CalendarInterface;
+import model.calendar.CalendarManagement;
+import model.calendar.ColumnarCalendar;
+import model.calendar.LockedCalendar;
+import model.calendar.StripedCalendar;
+import model.enums.EditMode;
+import model.event.Event;
+import model.event.EventInterface;
+
+/**
+ * A benchmark harness for the model layer that measures the main calendar
+ * operations over calendars of increasing size, so that a baseline can be
+ * recorded before and after every indexing change. Every calendar is filled
+ * with a realistic mix where most events stand alone and the rest belong to
+ * weekly series of ten instances.
+ *
+ * <p>Run with the compiled sources on the class path, optionally passing the
+ * calendar sizes to measure: {@code java benchmark.ModelBenchmark 1000 100000}.
+ * Passing {@code --columnar}, {@code --locked} or {@code --striped} measures the
+ * ColumnarCalendar, LockedCalendar or StripedCalendar instead. The two calendars
+ * that can be shared between threads are also measured with several threads
+ * creating events at once, each in weeks of its own.
+ */
+public class ModelBenchmark {
+  private static final int[] DEFAULT_SIZES = {1_000, 100_000, 1_000_000};
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURED_ROUNDS = 5;
+  private static final int OPERATIONS = 1_000;
+  private static final int SERIES_LENGTH = 10;
+  private static final double SERIES_SHARE = 0.3;
+  private static final int WRITER_THREADS = 4;
+  private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+  private final int size;
+  private final int days;
+  private final String implementation;
+  private final Random random = new Random(42);
+  private CalendarInterface calendar;
+  private List<LocalDateTime> singleStarts;
+  private List<String> seriesSubjects;
+  private List<LocalDateTime> seriesStarts;
+  private CalendarManagement copyTarget;
+  private List<EventInterface> copySources;
+
+  /**
+   * Constructor for a benchmark over a calendar of the given size.
+   *
+   * @param size           the number of events the calendar is filled with.
+   * @param implementation the calendar measured, which is one of calendar,
+   *                       columnar, locked or striped.
+   */
+  public ModelBenchmark(int size, String implementation) {
+    this.size = size;
+    this.implementation = implementation;
+    this.days = Math.max(size / 20, 70);
+  }
+
+  /**
+   * Runs the benchmark for every size given, or for the default sizes.
+   *
+   * @param args the sizes of the calendars to be measured.
+   */
+  public static void main(String[] args) {
+    String implementation = "calendar";
+    List<Integer> sizes = new ArrayList<>();
+    for (String arg : args) {
+      if (arg.startsWith("--")) {
+        implementation = arg.substring(2);
+      } else {
+        sizes.add(Integer.parseInt(arg.replace("_", "")));
+      }
+    }
+    if (sizes.isEmpty()) {
+      for (int size : DEFAULT_SIZES) {
+        sizes.add(size);
+      }
+    }
+
+    System.out.printf("%-28s %12s %14s%n", "benchmark", "events", "ns/op");
+    for (int size : sizes) {
+      new ModelBenchmark(size, implementation).run();
+    }
+  }
+
+  private void run() {
+    measure("createEvent", this::benchCreateEvent);
+    measure("createEventSeries", this::benchCreateEventSeries);
+    measure("editEvent SINGLE", () -> benchEditSeries(EditMode.SINGLE));
+    measure("editEvent FUTURE", () -> benchEditSeries(EditMode.FUTURE));
+    measure("editEvent ALL", () -> benchEditSeries(EditMode.ALL));
+    measure("getEventsSingleDay", this::benchEventsSingleDay);
+    measure("getEventsWindow (1h)", this::benchEventsWindow);
+    measure("copyEvents", this::prepareCopyEvents, this::benchCopyEvents);
+    if (implementation.equals("locked") || implementation.equals("striped")) {
+      measure("createEvent (" + WRITER_THREADS + " threads)", this::benchParallelCreateEvent);
+    }
+  }
+
+  private void measure(String name, Benchmark benchmark) {
+    measure(name, () -> { }, benchmark);
+  }
+
+  private void measure(String name, Runnable prepare, Benchmark benchmark) {
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      populate();
+      prepare.run();
+      benchmark.run();
+    }
+
+    long total = 0;
+    long operations = 0;
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      populate();
+      prepare.run();
+      long start = System.nanoTime();
+      operations += benchmark.run();
+      total += System.nanoTime() - start;
+    }
+
+    System.out.printf("%-28s %12d %14.1f%n", name, size, (double) total / operations);
+  }
+
+  private void populate() {
+    calendar = newCalendar();
+    singleStarts = new ArrayList<>();
+    seriesSubjects = new ArrayList<>();
+    seriesStarts = new ArrayList<>();
+
+    int seriesEvents = (int) (size * SERIES_SHARE) / SERIES_LENGTH * SERIES_LENGTH;
+    for (int i = 0; i < seriesEvents / SERIES_LENGTH; i++) {
+      LocalDateTime start = FIRST_DAY.plusDays(i % days).atTime(7, 0).plusSeconds(i / days + 1);
+      String subject = "Series " + i;
+      calendar.createEventSeries(subject, start, start.plusHours(1),
+              List.of(start.getDayOfWeek()), SERIES_LENGTH, "Weekly sync", null, null);
+      seriesSubjects.add(subject);
+      seriesStarts.add(start);
+    }
+
+    for (int i = seriesEvents; i < size; i++) {
+      LocalDateTime start = randomStart();
+      calendar.createEvent("Event " + i, start, start.plusMinutes(30 + random.nextInt(90)),
+              "Single event", null, null);
+      singleStarts.add(start);
+    }
+  }
+
+  private CalendarInterface newCalendar() {
+    switch (implementation) {
+      case "calendar":
+        return new Calendar();
+      case "columnar":
+        return new ColumnarCalendar();
+      case "locked":
+        return new LockedCalendar();
+      case "striped":
+        return new StripedCalendar();
+      default:
+        throw new IllegalArgumentException("Unknown calendar " + implementation);
+    }
+  }
+
+  private long benchCreateEvent() {
+    for (int i = 0; i < OPERATIONS; i++) {
+      LocalDateTime start = randomStart();
+      calendar.createEvent("New " + i, start, start.plusHours(1), null, null, null);
+    }
+    return OPERATIONS;
+  }
+
+  private long benchCreateEventSeries() {
+    for (int i = 0; i < OPERATIONS; i++) {
+      LocalDateTime start = FIRST_DAY.plusDays(i % days).atTime(20, 0).plusSeconds(i / days + 1);
+      calendar.createEventSeries("New series " + i, start, start.plusHours(1),
+              List.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY), SERIES_LENGTH, null, null, null);
+    }
+    return OPERATIONS;
+  }
+
+  private long benchEditSeries(EditMode mode) {
+    int edits = Math.min(OPERATIONS, seriesSubjects.size());
+    for (int i = 0; i < edits; i++) {
+      String subject = seriesSubjects.get(i);
+      LocalDateTime target = seriesStarts.get(i).plusWeeks(SERIES_LENGTH / 2);
+      EventInterface edit = new Event.CustomEventBuilder()
+              .setSubject(subject)
+              .setStartDateTime(target)
+              .setEndDateTime(target.plusHours(1))
+              .setDescription("Edited")
+              .build();
+      calendar.editEvent(subject, target, edit, mode);
+    }
+    return Math.max(edits, 1);
+  }
+
+  private long benchEventsSingleDay() {
+    long found = 0;
+    for (int i = 0; i < OPERATIONS; i++) {
+      found += calendar.getEventsSingleDay(FIRST_DAY.plusDays(random.nextInt(days))).size();
+    }
+    consume(found);
+    return OPERATIONS;
+  }
+
+  private long benchEventsWindow() {
+    long found = 0;
+    for (int i = 0; i < OPERATIONS; i++) {
+      LocalDateTime start = randomStart();
+      found += calendar.getEventsWindow(start, start.plusHours(1)).size();
+    }
+    consume(found);
+    return OPERATIONS;
+  }
+
+  private void prepareCopyEvents() {
+    copyTarget = new CalendarManagement();
+    copyTarget.createCalendar("Target", ZoneId.of("UTC"));
+
+    Map<String, EventInterface> events = new LinkedHashMap<>();
+    for (int i = 0; i < OPERATIONS && i < singleStarts.size(); i++) {
+      LocalDateTime start = singleStarts.get(i);
+      for (EventInterface e : calendar.getEventsWindow(start, start)) {
+        events.putIfAbsent(e.getSubject() + e.getStartDateTime() + e.getEndDateTime(), e);
+      }
+    }
+    copySources = new ArrayList<>(events.values());
+  }
+
+  private long benchCopyEvents() {
+    copyTarget.copyEvents(copySources, "Target");
+    return Math.max(copySources.size(), 1);
+  }
+
+  private long benchParallelCreateEvent() {
+    ExecutorService writers = Executors.newFixedThreadPool(WRITER_THREADS);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int thread = 0; thread < WRITER_THREADS; thread++) {
+        int offset = thread;
+        tasks.add(writers.submit(() -> {
+          for (int i = 0; i < OPERATIONS; i++) {
+            LocalDateTime start = FIRST_DAY.plusWeeks(i % (days / 7) / WRITER_THREADS
+                    * WRITER_THREADS + offset).plusDays(i % 5).atTime(7 + i % 12, 0);
+            calendar.createEvent("Writer " + offset + " " + i, start, start.plusMinutes(45),
+                    null, null, null);
+          }
+        }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    } finally {
+      writers.shutdown();
+    }
+    return (long) OPERATIONS * WRITER_THREADS;
+  }
+
+  private LocalDateTime randomStart() {
+    return FIRST_DAY.plusDays(random.nextInt(days))
+            .atTime(7 + random.nextInt(12), random.nextInt(4) * 15);
+  }
+
+  private static void consume(long value) {
+    if (value == Long.MIN_VALUE) {
+      System.out.println(value);
+    }
+  }
+
+  /**
+   * A single benchmarked operation that returns the number of operations it ran.
+   */
+  private interface Benchmark {
+    long run();
+  }
+}
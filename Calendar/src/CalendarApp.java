@@ -1,34 +1,53 @@
+import java.nio.charset.Charset;
+
 import controller.CalendarController;
 import model.calendar.CalendarManagement;
+import view.BufferedOutputSink;
 import view.CalendarView;
 
 /**
  * The application used to run the Calendar Application.
  */
 public class CalendarApp {
+  private static final int COMMANDS_PER_FLUSH = 256;
+
   /**
    * The main function for the calendar.
    * @param args takes in string arguments to execute commands.
    */
   public static void main(String[] args) {
-    CalendarManagement model = new CalendarManagement();
-    CalendarView view = new CalendarView();
-    CalendarController calendarController = new CalendarController(model, view);
-
     if (args.length == 0) {
       args = new String[] {"program", "gui"};
     } else {
       if (args.length < 2 || !args[0].equalsIgnoreCase("--mode")) {
-        System.err.println("Usage: java CalendarApp --mode [interactive|headless] [commands.txt]");
+        System.err.println("Usage: java CalendarApp --mode "
+                + "[interactive|headless|parallel|pipelined|server] [commands.txt|port]");
         return;
       }
 
-      if (args[1].equalsIgnoreCase("headless") && args.length != 3) {
-        System.err.println("Missing file for headless mode");
+      if ((args[1].equalsIgnoreCase("headless") || args[1].equalsIgnoreCase("parallel")
+              || args[1].equalsIgnoreCase("pipelined")) && args.length != 3) {
+        System.err.println("Missing file for " + args[1].toLowerCase() + " mode");
+        return;
+      }
+
+      if (args[1].equalsIgnoreCase("server")
+              && (args.length != 3 || !args[2].matches("\\d{1,5}"))) {
+        System.err.println("Missing port for server mode");
         return;
       }
     }
 
+    boolean parallel = args[1].equalsIgnoreCase("parallel");
+    CalendarManagement model = new CalendarManagement(args[1].equalsIgnoreCase("server")
+            || parallel);
+    CalendarView view = args[1].equalsIgnoreCase("headless") || parallel
+            || args[1].equalsIgnoreCase("pipelined")
+            ? new CalendarView(new BufferedOutputSink(System.out, Charset.defaultCharset(),
+                    COMMANDS_PER_FLUSH))
+            : new CalendarView();
+    CalendarController calendarController = new CalendarController(model, view);
+
     calendarController.play(args);
   }
 }
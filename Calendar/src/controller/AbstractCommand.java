@@ -1,13 +1,12 @@
 package controller;
 
 import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.HashSet;
-import java.util.Set;
 
 import model.calendar.Calendar;
 import model.enums.Location;
@@ -20,15 +19,25 @@ import view.CalendarView;
  * helpers to check valid values.
  */
 public abstract class AbstractCommand implements Command {
+  static final DateTimeFormatter DATE_TIME_FORMAT =
+          DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+  static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+  private static final DayOfWeek[] WEEKDAY_CODES = new DayOfWeek[128];
+
+  static {
+    WEEKDAY_CODES['M'] = DayOfWeek.MONDAY;
+    WEEKDAY_CODES['T'] = DayOfWeek.TUESDAY;
+    WEEKDAY_CODES['W'] = DayOfWeek.WEDNESDAY;
+    WEEKDAY_CODES['R'] = DayOfWeek.THURSDAY;
+    WEEKDAY_CODES['F'] = DayOfWeek.FRIDAY;
+    WEEKDAY_CODES['S'] = DayOfWeek.SATURDAY;
+    WEEKDAY_CODES['U'] = DayOfWeek.SUNDAY;
+  }
+
   @Override
   public boolean isValidDateTime(String input) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
-    try {
-      LocalDateTime.parse(input, formatter);
-      return true;
-    } catch (DateTimeParseException e) {
-      return false;
-    }
+    return parseDateTime(input) != null;
   }
 
   @Override
@@ -43,28 +52,13 @@ public abstract class AbstractCommand implements Command {
 
   @Override
   public boolean isValidDate(String input) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    try {
-      LocalDate.parse(input, formatter);
-      return true;
-    } catch (DateTimeParseException e) {
-      return false;
-    }
+    return parseDate(input) != null;
   }
 
   @Override
   public boolean isValidWeekdayFormat(String input) {
-    Set<Character> validDays = new HashSet<>();
-    validDays.add('M');
-    validDays.add('T');
-    validDays.add('W');
-    validDays.add('R');
-    validDays.add('F');
-    validDays.add('S');
-    validDays.add('U');
-
-    for (char ch : input.toCharArray()) {
-      if (!validDays.contains(ch)) {
+    for (int i = 0; i < input.length(); i++) {
+      if (weekdayOf(input.charAt(i)) == null) {
         return false;
       }
     }
@@ -72,6 +66,62 @@ public abstract class AbstractCommand implements Command {
     return true;
   }
 
+  /**
+   * Parses a date time in the format yyyy-MM-ddTHH:mm.
+   *
+   * @param input the string of the date time to be parsed.
+   * @return the date time, or null if the input is not a valid date time.
+   */
+  protected static LocalDateTime parseDateTime(String input) {
+    return parseDateTime(input, DATE_TIME_FORMAT);
+  }
+
+  /**
+   * Parses a date time with the given formatter.
+   *
+   * @param input  the string of the date time to be parsed.
+   * @param format the formatter to parse with.
+   * @return the date time, or null if the input is not a valid date time.
+   */
+  protected static LocalDateTime parseDateTime(String input, DateTimeFormatter format) {
+    if (input == null) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(input, format);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parses a date in the format yyyy-MM-dd.
+   *
+   * @param input the string of the date to be parsed.
+   * @return the date, or null if the input is not a valid date.
+   */
+  protected static LocalDate parseDate(String input) {
+    if (input == null) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(input, DATE_FORMAT);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the day of the week of a weekday code, where M, T, W, R, F, S and U
+   * stand for Monday through Sunday.
+   *
+   * @param code the weekday code.
+   * @return the day of the week, or null if the code is not a weekday code.
+   */
+  static DayOfWeek weekdayOf(char code) {
+    return code < WEEKDAY_CODES.length ? WEEKDAY_CODES[code] : null;
+  }
+
   @Override
   public boolean isValidNewValue(String property, String newValue) {
     switch (property) {
@@ -6,10 +6,13 @@ import view.JFrameCalendarView;
 
 import javax.swing.SwingUtilities;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.NoSuchElementException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Controller class that implements the CalendarControllerInterface and
@@ -44,7 +47,17 @@ public class CalendarController implements CalendarControllerInterface {
         this.runInteractiveMode();
         break;
       case "headless":
-        this.runHeadlessMode(args[2]);
+        this.runHeadlessMode(args[2], new SequentialRunner());
+        break;
+      case "parallel":
+        this.runHeadlessMode(args[2], new ParallelHeadlessRunner(calendarModel, calendarView,
+                Runtime.getRuntime().availableProcessors()));
+        break;
+      case "pipelined":
+        this.runHeadlessMode(args[2], new PipelinedHeadlessRunner(calendarModel, calendarView));
+        break;
+      case "server":
+        this.runServerMode(Integer.parseInt(args[2]));
         break;
       default:
         this.runGUIMode();
@@ -66,30 +79,98 @@ public class CalendarController implements CalendarControllerInterface {
     while (!this.processCommand(command, tokensString));
   }
 
-  private void runHeadlessMode(String filename) throws IllegalArgumentException {
-    try (Scanner scanner = new Scanner(new FileReader(filename))) {
-      String command;
-      String tokensString;
+  private void runHeadlessMode(String filename, HeadlessRunner runner)
+          throws IllegalArgumentException {
+    long started = System.nanoTime();
+    long processed = 0;
+    try (CommandFileReader reader = new CommandFileReader(Path.of(filename))) {
       boolean exitFound = false;
+      String line;
+
+      while (!exitFound && (line = reader.readLine()) != null) {
+        int start = skipWhitespace(line);
+        if (start == line.length()) {
+          continue;
+        }
+        int end = start;
+        while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+          end++;
+        }
+
+        String command = line.substring(start, end);
+        if (command.equalsIgnoreCase("exit")) {
+          runner.finish();
+          calendarView.flush();
+          System.out.println("Exiting...");
+          exitFound = true;
+        } else {
+          runner.submit(command, line.substring(end));
+          processed++;
+        }
+      }
+
+      if (!exitFound) {
+        runner.finish();
+        calendarView.flush();
+        System.err.println("Error: headless command file must end with an 'exit' command.");
+      }
+      reportThroughput(processed, System.nanoTime() - started);
+    } catch (IOException | InvalidPathException e) {
+      System.err.println("Failed to read command file: " + e.getMessage());
+    } finally {
+      runner.finish();
+      calendarView.flush();
+    }
+  }
+
+  private static int skipWhitespace(String line) {
+    int index = 0;
+    while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static void reportThroughput(long processed, long elapsedNanos) {
+    double seconds = Math.max(elapsedNanos, 1) / 1e9;
+    System.err.printf("Processed %d commands in %.3f s (%.0f commands/sec)%n",
+            processed, seconds, processed / seconds);
+  }
+
+  private void runServerMode(int port) {
+    try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+      System.out.println("Listening for commands on port " + server.getLocalPort() + "...");
+      new CalendarServer(calendarModel).serve(server);
+    } catch (IOException e) {
+      System.err.println("Failed to run server: " + e.getMessage());
+    }
+  }
 
-      while (!exitFound) {
+  /**
+   * Processes the commands read from the given scanner until an exit command or
+   * the end of the input. The errors of failed commands are reported through the
+   * view so that the remaining commands still run.
+   *
+   * @param scanner   the scanner the commands are read from.
+   * @param processed the counter incremented for every command processed.
+   */
+  void runCommands(Scanner scanner, AtomicLong processed) {
+    try {
+      while (scanner.hasNext()) {
+        String command = scanner.next();
+        String tokensString = scanner.hasNextLine() ? scanner.nextLine() : "";
         try {
-          command = scanner.next();
-          if (command.equalsIgnoreCase("exit")) {
-            System.out.println("Exiting...");
-            exitFound = true;
-            break;
-          } else {
-            tokensString = scanner.nextLine();
-            processCommand(command, tokensString);
+          if (processCommand(command, tokensString)) {
+            return;
           }
-        } catch (NoSuchElementException e) {
-          System.err.println("Error: headless command file must end with an 'exit' command.");
-          break;
+        } catch (RuntimeException e) {
+          calendarView.printError(e.getMessage());
+          calendarView.endCommand();
         }
+        processed.incrementAndGet();
       }
-    } catch (IOException e) {
-      System.err.println("Failed to read command file: " + e.getMessage());
+    } finally {
+      calendarView.flush();
     }
   }
 
@@ -103,35 +184,48 @@ public class CalendarController implements CalendarControllerInterface {
 
   private boolean processCommand(String command, String tokensString)
           throws IllegalArgumentException {
+    return processCommand(command, CommandParser.parse(command + tokensString));
+  }
+
+  /**
+   * Runs one command that was already parsed.
+   *
+   * @param command the first word of the command.
+   * @param parsed  the command parsed from the whole line.
+   * @return whether the command was an exit command.
+   * @throws IllegalArgumentException if the command consists of an invalid input.
+   */
+  boolean processCommand(String command, ParsedCommand parsed)
+          throws IllegalArgumentException {
     switch (command) {
       case "create":
         CreateCommand createEvent =
-                new CreateCommand(tokensString, calendarModel, calendarView);
+                new CreateCommand(parsed, calendarModel, calendarView);
         createEvent.execute();
         break;
       case "edit":
         EditCommand editEvent =
-                new EditCommand(tokensString, calendarModel, calendarView);
+                new EditCommand(parsed, calendarModel, calendarView);
         editEvent.execute();
         break;
       case "print":
         QueryCommand printEvent =
-                new QueryCommand(tokensString, "print", calendarModel, calendarView);
+                new QueryCommand(parsed, calendarModel, calendarView);
         printEvent.execute();
         break;
       case "show":
         QueryCommand showStatus =
-                new QueryCommand(tokensString, "show", calendarModel, calendarView);
+                new QueryCommand(parsed, calendarModel, calendarView);
         showStatus.execute();
         break;
       case "copy":
         CopyEventCommand copyEvent =
-                new CopyEventCommand(tokensString, calendarModel, calendarView);
+                new CopyEventCommand(parsed, calendarModel, calendarView);
         copyEvent.execute();
         break;
       case "use":
         QueryCommand useCalendar =
-                new QueryCommand(tokensString, "use", calendarModel, calendarView);
+                new QueryCommand(parsed, calendarModel, calendarView);
         useCalendar.execute();
         break;
       case "exit":
@@ -140,6 +234,22 @@ public class CalendarController implements CalendarControllerInterface {
         calendarView.printError("Invalid command.");
     }
 
+    calendarView.endCommand();
     return false;
   }
-}
\ No newline at end of file
+
+  /**
+   * A runner that runs every command of a headless script as soon as it is read.
+   */
+  private final class SequentialRunner implements HeadlessRunner {
+    @Override
+    public void submit(String command, String tokensString) {
+      processCommand(command, tokensString);
+    }
+
+    @Override
+    public void finish() {
+      // Every command has already run.
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package controller;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.calendar.CalendarManagement;
+import view.BufferedOutputSink;
+import view.CalendarView;
+import view.OutputSink;
+
+/**
+ * A server that accepts the text commands of the calendar over TCP. Every
+ * connection is served on its own thread with its own session of the model, so
+ * that each client selects calendars independently while all clients share the
+ * same calendars. Replies are written back to the connection as plain text.
+ */
+public class CalendarServer {
+  private final CalendarManagement calendarModel;
+  private final ExecutorService connections = Executors.newCachedThreadPool();
+  private final AtomicLong commandsProcessed = new AtomicLong();
+
+  /**
+   * Constructor for the server.
+   *
+   * @param calendarModel the calendar management shared by every connection, which
+   *                      should be created in concurrent mode.
+   */
+  public CalendarServer(CalendarManagement calendarModel) {
+    this.calendarModel = calendarModel;
+  }
+
+  /**
+   * Accepts connections on the given socket until it is closed, handing every
+   * connection to its own thread.
+   *
+   * @param server the socket to accept connections on.
+   * @throws IOException if accepting a connection fails.
+   */
+  public void serve(ServerSocket server) throws IOException {
+    try {
+      while (!server.isClosed()) {
+        Socket socket;
+        try {
+          socket = server.accept();
+        } catch (SocketException e) {
+          if (server.isClosed()) {
+            break;
+          }
+          throw e;
+        }
+        connections.execute(() -> handle(socket));
+      }
+    } finally {
+      connections.shutdown();
+    }
+  }
+
+  /**
+   * Gets the number of commands processed over every connection so far, which
+   * can be sampled to measure the throughput of the server.
+   *
+   * @return the number of commands processed.
+   */
+  public long getCommandsProcessed() {
+    return commandsProcessed.get();
+  }
+
+  private void handle(Socket socket) {
+    try (socket;
+         Scanner input = new Scanner(socket.getInputStream(), StandardCharsets.UTF_8)) {
+      OutputSink output = new BufferedOutputSink(socket.getOutputStream(),
+              StandardCharsets.UTF_8, 1);
+      CalendarController session = new CalendarController(calendarModel.openSession(),
+              new CalendarView(output));
+      session.runCommands(input, commandsProcessed);
+    } catch (IOException e) {
+      System.err.println("Connection failed: " + e.getMessage());
+    }
+  }
+}
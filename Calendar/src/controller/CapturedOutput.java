@@ -0,0 +1,42 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import view.CalendarView;
+import view.OutputSink;
+
+/**
+ * A sink that keeps the lines of one command so that they can be displayed
+ * later, once the output of the commands before it has been displayed.
+ */
+final class CapturedOutput implements OutputSink {
+  private final List<String> lines = new ArrayList<>(2);
+
+  @Override
+  public void println(CharSequence line) {
+    lines.add(line.toString());
+  }
+
+  @Override
+  public void endCommand() {
+    // The lines are displayed together by displayOn.
+  }
+
+  @Override
+  public void flush() {
+    // The lines are displayed together by displayOn.
+  }
+
+  /**
+   * Displays the captured lines on the given view as the output of one command.
+   *
+   * @param calendarView the view to display on.
+   */
+  void displayOn(CalendarView calendarView) {
+    for (String line : lines) {
+      calendarView.printLine(line);
+    }
+    calendarView.endCommand();
+  }
+}
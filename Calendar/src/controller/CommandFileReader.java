@@ -0,0 +1,97 @@
+package controller;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A reader for command files that reads the file through a channel in large
+ * blocks and splits it into lines by scanning for line breaks, so that long
+ * scripts are read without a regular expression per command. Lines end at a
+ * line feed, a carriage return or both, and are decoded as UTF-8.
+ */
+final class CommandFileReader implements Closeable {
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private byte[] line = new byte[256];
+  private boolean skipLineFeed;
+
+  /**
+   * Opens the command file at the given path.
+   *
+   * @param path the path of the command file.
+   * @throws IOException if the file cannot be opened.
+   */
+  CommandFileReader(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    buffer.flip();
+  }
+
+  /**
+   * Reads the next line of the file.
+   *
+   * @return the line without its line break, or null at the end of the file.
+   * @throws IOException if reading the file fails.
+   */
+  String readLine() throws IOException {
+    int length = 0;
+    while (true) {
+      if (!buffer.hasRemaining()) {
+        buffer.clear();
+        int read = channel.read(buffer);
+        buffer.flip();
+        if (read < 0) {
+          return length > 0 ? decode(length) : null;
+        }
+      }
+
+      byte[] bytes = buffer.array();
+      int position = buffer.position();
+      int limit = buffer.limit();
+      if (skipLineFeed) {
+        skipLineFeed = false;
+        if (bytes[position] == '\n') {
+          position++;
+        }
+      }
+
+      int end = position;
+      while (end < limit && bytes[end] != '\n' && bytes[end] != '\r') {
+        end++;
+      }
+      length = append(length, bytes, position, end);
+
+      if (end < limit) {
+        skipLineFeed = bytes[end] == '\r';
+        buffer.position(end + 1);
+        return decode(length);
+      }
+      buffer.position(limit);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private int append(int length, byte[] bytes, int from, int to) {
+    int count = to - from;
+    if (length + count > line.length) {
+      line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+    }
+    System.arraycopy(bytes, from, line, length, count);
+    return length + count;
+  }
+
+  private String decode(int length) {
+    return new String(line, 0, length, StandardCharsets.UTF_8);
+  }
+}
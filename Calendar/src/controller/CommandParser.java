@@ -0,0 +1,355 @@
+package controller;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import controller.ParsedCommand.Kind;
+
+/**
+ * A parser for the text command language that reads a line once from left to
+ * right, matching the literal words of each form of command and converting the
+ * arguments into typed values as it goes. Free text arguments that run up to a
+ * later keyword, such as the name of a calendar, are split at the last place the
+ * rest of the line still parses, the same way a greedy pattern would.
+ */
+public final class CommandParser {
+  private static final String DATE_SHAPE = "dddd-dd-dd";
+  private static final String DATE_TIME_SHAPE = "dddd-dd-ddTdd:dd";
+  private static final String[] EVENT_PROPERTIES =
+          {"subject", "start", "end", "description", "location", "status"};
+
+  private final ParsedCommand command;
+  private final String line;
+  private int pos;
+  private boolean failed;
+
+  private CommandParser(String line) {
+    this.command = new ParsedCommand(line);
+    this.line = line;
+  }
+
+  /**
+   * Parses one line of the command language.
+   *
+   * @param line the line to be parsed, starting with the command keyword.
+   * @return the parsed command, whose kind is invalid if the line does not follow
+   *         any form of the language.
+   * @throws NumberFormatException if the number of repeats does not fit an int.
+   */
+  public static ParsedCommand parse(String line) {
+    CommandParser parser = new CommandParser(line);
+    Kind kind = parser.parseCommand();
+    if (!parser.failed && parser.pos == line.length()) {
+      parser.command.kind = kind;
+    }
+    return parser.command;
+  }
+
+  private Kind parseCommand() {
+    if (literal("create calendar --name ")) {
+      return parseCreateCalendar();
+    } else if (literal("create event ")) {
+      return parseCreateEvent();
+    } else if (literal("edit calendar --name ")) {
+      return parseEditCalendar();
+    } else if (literal("edit event ")) {
+      return parseEditEvent(Kind.EDIT_EVENT);
+    } else if (literal("edit events ")) {
+      return parseEditEvent(Kind.EDIT_EVENTS);
+    } else if (literal("edit series ")) {
+      return parseEditEvent(Kind.EDIT_SERIES);
+    } else if (literal("print events on ")) {
+      command.date = date();
+      return Kind.PRINT_DAY;
+    } else if (literal("print events from ")) {
+      command.start = dateTime();
+      expect(" to ");
+      command.end = dateTime();
+      return Kind.PRINT_WINDOW;
+    } else if (literal("show status on ")) {
+      command.start = dateTime();
+      return Kind.SHOW_STATUS;
+    } else if (literal("use calendar --name ")) {
+      command.name = text(line.length());
+      return Kind.USE_CALENDAR;
+    } else if (literal("copy event ")) {
+      return parseCopyEvent();
+    } else if (literal("copy events on ")) {
+      command.date = date();
+      expect(" --target ");
+      parseTarget(DATE_SHAPE.length());
+      command.targetDate = date();
+      return Kind.COPY_DAY;
+    } else if (literal("copy events between ")) {
+      command.date = date();
+      expect(" and ");
+      command.endDate = date();
+      expect(" --target ");
+      parseTarget(DATE_SHAPE.length());
+      command.targetDate = date();
+      return Kind.COPY_WINDOW;
+    }
+    return fail();
+  }
+
+  private Kind parseCreateCalendar() {
+    int split = line.lastIndexOf(" --timezone ");
+    if (split < pos) {
+      return fail();
+    }
+    command.name = text(split);
+    expect(" --timezone ");
+
+    int slash = line.indexOf('/', pos);
+    if (slash < 0 || !zoneWord(pos, slash) || !zoneWord(slash + 1, line.length())) {
+      return fail();
+    }
+    command.value = line.substring(pos);
+    pos = line.length();
+    return Kind.CREATE_CALENDAR;
+  }
+
+  private Kind parseCreateEvent() {
+    command.subject = quoted();
+    if (literal(" on ")) {
+      LocalDate day = date();
+      command.start = day == null ? null : day.atTime(8, 0);
+      command.end = day == null ? null : day.atTime(17, 0);
+    } else {
+      expect(" from ");
+      command.start = dateTime();
+      expect(" to ");
+      command.end = dateTime();
+    }
+
+    if (!literal(" repeats ")) {
+      return Kind.CREATE_EVENT;
+    }
+    command.repeatDays = weekdays();
+    if (literal(" for ")) {
+      command.occurrences = number();
+      expect(" times");
+      return Kind.CREATE_SERIES_TIMES;
+    }
+    expect(" until ");
+    command.endDate = date();
+    return Kind.CREATE_SERIES_UNTIL;
+  }
+
+  private Kind parseEditCalendar() {
+    for (int split = line.lastIndexOf(" --property "); split >= pos;
+         split = line.lastIndexOf(" --property ", split - 1)) {
+      int valueStart = split + " --property ".length();
+      String property = line.startsWith("name ", valueStart) ? "name"
+              : line.startsWith("timezone ", valueStart) ? "timezone" : null;
+      if (property == null) {
+        continue;
+      }
+      valueStart += property.length() + 1;
+      if (isText(pos, split) && isText(valueStart, line.length())) {
+        command.name = line.substring(pos, split);
+        command.property = property;
+        command.value = line.substring(valueStart);
+        pos = line.length();
+        return Kind.EDIT_CALENDAR;
+      }
+    }
+    return fail();
+  }
+
+  private Kind parseEditEvent(Kind kind) {
+    for (String property : EVENT_PROPERTIES) {
+      if (literal(property + " ")) {
+        command.property = property;
+        break;
+      }
+    }
+    if (command.property == null) {
+      return fail();
+    }
+
+    command.subject = quoted();
+    expect(" from ");
+    command.start = dateTime();
+    if (kind == Kind.EDIT_EVENT) {
+      expect(" to ");
+      command.end = dateTime();
+    }
+    expect(" with ");
+    if (pos >= line.length()) {
+      return fail();
+    }
+    command.value = line.substring(pos);
+    pos = line.length();
+    return kind;
+  }
+
+  private Kind parseCopyEvent() {
+    command.subject = quoted();
+    expect(" on ");
+    command.start = dateTime();
+    expect(" --target ");
+    parseTarget(DATE_TIME_SHAPE.length());
+    command.targetDateTime = dateTime();
+    return Kind.COPY_EVENT;
+  }
+
+  private void parseTarget(int dateLength) {
+    int split = line.length() - dateLength - " to ".length();
+    command.target = text(split);
+    expect(" to ");
+  }
+
+  private boolean literal(String expected) {
+    if (!failed && line.startsWith(expected, pos)) {
+      pos += expected.length();
+      return true;
+    }
+    return false;
+  }
+
+  private void expect(String expected) {
+    if (!literal(expected)) {
+      failed = true;
+    }
+  }
+
+  private Kind fail() {
+    failed = true;
+    return Kind.INVALID;
+  }
+
+  private String quoted() {
+    if (!literal("\"")) {
+      failed = true;
+      return null;
+    }
+    int close = line.indexOf('"', pos);
+    if (close <= pos) {
+      failed = true;
+      return null;
+    }
+    String text = line.substring(pos, close);
+    pos = close + 1;
+    return text;
+  }
+
+  private String text(int end) {
+    if (failed || end <= pos || end > line.length() || !isText(pos, end)) {
+      failed = true;
+      return null;
+    }
+    String text = line.substring(pos, end);
+    pos = end;
+    return text;
+  }
+
+  private boolean isText(int from, int to) {
+    if (from >= to) {
+      return false;
+    }
+    for (int i = from; i < to; i++) {
+      if (line.charAt(i) == '"') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean zoneWord(int from, int to) {
+    if (from >= to) {
+      return false;
+    }
+    for (int i = from; i < to; i++) {
+      char c = line.charAt(i);
+      if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '_')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private LocalDate date() {
+    if (!shaped(DATE_SHAPE)) {
+      return null;
+    }
+    int start = pos;
+    pos += DATE_SHAPE.length();
+    try {
+      return LocalDate.of(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2));
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  private LocalDateTime dateTime() {
+    if (!shaped(DATE_TIME_SHAPE)) {
+      return null;
+    }
+    int start = pos;
+    pos += DATE_TIME_SHAPE.length();
+    try {
+      return LocalDateTime.of(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2),
+              digits(start + 11, 2), digits(start + 14, 2));
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  private boolean shaped(String shape) {
+    if (failed || pos + shape.length() > line.length()) {
+      failed = true;
+      return false;
+    }
+    for (int i = 0; i < shape.length(); i++) {
+      char c = line.charAt(pos + i);
+      char expected = shape.charAt(i);
+      if (expected == 'd' ? c < '0' || c > '9' : c != expected) {
+        failed = true;
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int digits(int from, int count) {
+    int value = 0;
+    for (int i = from; i < from + count; i++) {
+      value = value * 10 + (line.charAt(i) - '0');
+    }
+    return value;
+  }
+
+  private List<DayOfWeek> weekdays() {
+    List<DayOfWeek> days = new ArrayList<>();
+    while (!failed && pos < line.length()) {
+      DayOfWeek day = AbstractCommand.weekdayOf(line.charAt(pos));
+      if (day == null) {
+        break;
+      }
+      days.add(day);
+      pos++;
+    }
+    if (days.isEmpty()) {
+      failed = true;
+    }
+    return days;
+  }
+
+  private int number() {
+    int start = pos;
+    while (!failed && pos < line.length()
+            && line.charAt(pos) >= '0' && line.charAt(pos) <= '9') {
+      pos++;
+    }
+    if (failed || pos == start) {
+      failed = true;
+      return 0;
+    }
+    return Integer.parseInt(line.substring(start, pos));
+  }
+}
@@ -6,8 +6,6 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import model.calendar.Calendar;
 import model.calendar.CalendarManagement;
@@ -21,25 +19,7 @@ import view.CalendarView;
  * calendar controller.
  */
 public class CopyEventCommand extends AbstractCommand {
-  private static final Pattern CopySingleEvent = Pattern.compile(
-          "^copy event \"([^\"]+)\" on "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) --target "
-                  + "([^\"]+) to "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})$");
-
-  private static final Pattern CopyDayEvents = Pattern.compile(
-          "^copy events on "
-                  + "(\\d{4}-\\d{2}-\\d{2}) --target "
-                  + "([^\"]+) to "
-                  + "(\\d{4}-\\d{2}-\\d{2})$");
-
-  private static final Pattern CopyWindowEvents = Pattern.compile(
-          "^copy events between "
-                  + "(\\d{4}-\\d{2}-\\d{2}) and (\\d{4}-\\d{2}-\\d{2}) "
-                  + "--target ([^\"]+) to "
-                  + "(\\d{4}-\\d{2}-\\d{2})$");
-
-  private final String tokensString;
+  private final ParsedCommand command;
   private final CalendarManagement calendarModel;
   private final Calendar selectedCalendar;
   private CalendarView calendarView;
@@ -54,7 +34,20 @@ public class CopyEventCommand extends AbstractCommand {
   public CopyEventCommand(String tokensString,
                           CalendarManagement calendarModel,
                           CalendarView calendarView) {
-    this.tokensString = "copy" + tokensString;
+    this(CommandParser.parse("copy" + tokensString), calendarModel, calendarView);
+  }
+
+  /**
+   * A constructor for the copy command from a command that was already parsed.
+   *
+   * @param command       the parsed command.
+   * @param calendarModel a calendar model.
+   * @param calendarView  a calendarView
+   */
+  public CopyEventCommand(ParsedCommand command,
+                          CalendarManagement calendarModel,
+                          CalendarView calendarView) {
+    this.command = command;
     this.calendarModel = calendarModel;
     this.selectedCalendar = calendarModel.getSelectedCalendar();
     this.calendarView = calendarView;
@@ -62,37 +55,39 @@ public class CopyEventCommand extends AbstractCommand {
 
   @Override
   public void execute() throws IllegalArgumentException {
-    Matcher m;
-
     if (!checkCalendarSelected(selectedCalendar, calendarView)) {
       return;
     }
 
-    if ((m = CopySingleEvent.matcher(tokensString)).matches()) {
-      handleCopyEvent(m);
-    } else if ((m = CopyDayEvents.matcher(tokensString)).matches()) {
-      handleCopyEventsDay(m);
-    } else if ((m = CopyWindowEvents.matcher(tokensString)).matches()) {
-      handleCopyEventsWindow(m);
-    } else {
-      calendarView.printError("Invalid command: \"" + tokensString + "\"");
+    switch (command.getKind()) {
+      case COPY_EVENT:
+        handleCopyEvent();
+        break;
+      case COPY_DAY:
+        handleCopyEventsDay();
+        break;
+      case COPY_WINDOW:
+        handleCopyEventsWindow();
+        break;
+      default:
+        calendarView.printError("Invalid command: \"" + command.getLine() + "\"");
+        break;
     }
   }
 
-  private void handleCopyEvent(Matcher m) {
-    String eventName = m.group(1);
-    String eventDate = m.group(2);
-    String targetCalendar = m.group(3);
-    String targetDate = m.group(4);
+  private void handleCopyEvent() {
+    String eventName = command.getSubject();
+    LocalDateTime eventDate = command.getStart();
+    String targetCalendar = command.getTarget();
+    LocalDateTime targetDate = command.getTargetDateTime();
 
-    if (!isValidDateTime(eventDate) || !isValidDateTime(targetDate)) {
+    if (eventDate == null || targetDate == null) {
       calendarView.printError("Invalid date format");
       return;
     }
 
     try {
-      EventInterface eventToCopy = selectedCalendar.getEvent(eventName,
-              LocalDateTime.parse(eventDate), null);
+      EventInterface eventToCopy = selectedCalendar.getEvent(eventName, eventDate, null);
 
       if (eventToCopy == null) {
         calendarView.printError("Event \"" + eventName + "\" not found on " + eventDate);
@@ -103,7 +98,7 @@ public class CopyEventCommand extends AbstractCommand {
         return;
       }
 
-      copySingleEvent(eventToCopy, targetCalendar, LocalDateTime.parse(targetDate));
+      copySingleEvent(eventToCopy, targetCalendar, targetDate);
 
     } catch (Exception e) {
       calendarView.printError("Event \"" + eventName + "\" not found on " + eventDate);
@@ -146,12 +141,12 @@ public class CopyEventCommand extends AbstractCommand {
     }
   }
 
-  private void handleCopyEventsDay(Matcher m) {
-    String eventsDate = m.group(1);
-    String targetCalendar = m.group(2);
-    String targetDate = m.group(3);
+  private void handleCopyEventsDay() {
+    LocalDate eventsDate = command.getDate();
+    String targetCalendar = command.getTarget();
+    LocalDate targetDate = command.getTargetDate();
 
-    if (!isValidDate(eventsDate) || !isValidDate(targetDate)) {
+    if (eventsDate == null || targetDate == null) {
       calendarView.printError("Invalid date format");
       return;
     }
@@ -161,7 +156,7 @@ public class CopyEventCommand extends AbstractCommand {
     }
 
     try {
-      List<Event> eventsOnDay = selectedCalendar.getEventsSingleDay(LocalDate.parse(eventsDate));
+      List<Event> eventsOnDay = selectedCalendar.getEventsSingleDay(eventsDate);
 
       if (eventsOnDay == null || eventsOnDay.isEmpty()) {
         calendarView.printError("No events found on " + eventsDate);
@@ -169,8 +164,8 @@ public class CopyEventCommand extends AbstractCommand {
       }
 
       calendarModel.copyEvents(convertEvents(
-                      selectedCalendar.getEventsSingleDay(LocalDate.parse(eventsDate)),
-                      LocalDate.parse(targetDate),
+                      eventsOnDay,
+                      targetDate,
                       calendarModel.getCalendarTimezone(null),
                       calendarModel.getCalendarTimezone(targetCalendar)),
               targetCalendar);
@@ -179,13 +174,13 @@ public class CopyEventCommand extends AbstractCommand {
     }
   }
 
-  private void handleCopyEventsWindow(Matcher m) {
-    String eventsStartDate = m.group(1);
-    String eventsEndDate = m.group(2);
-    String targetCalendar = m.group(3);
-    String targetDate = m.group(4);
+  private void handleCopyEventsWindow() {
+    LocalDate eventsStartDate = command.getDate();
+    LocalDate eventsEndDate = command.getEndDate();
+    String targetCalendar = command.getTarget();
+    LocalDate targetDate = command.getTargetDate();
 
-    if (!isValidDate(eventsStartDate) || !isValidDate(eventsEndDate) || !isValidDate(targetDate)) {
+    if (eventsStartDate == null || eventsEndDate == null || targetDate == null) {
       calendarView.printError("Invalid date format");
       return;
     }
@@ -195,9 +190,17 @@ public class CopyEventCommand extends AbstractCommand {
     }
 
     try {
-      List<Event> eventsInWindow = selectedCalendar.getEventsWindow(
-              LocalDateTime.parse(eventsStartDate + "T00:00"),
-              LocalDateTime.parse(eventsEndDate + "T23:59"));
+      List<Event> eventsInWindow = new ArrayList<>();
+      if (!eventsStartDate.isAfter(eventsEndDate)) {
+        // events running into the range from an earlier day, then those starting in it
+        for (Event e : selectedCalendar.getEventsSingleDay(eventsStartDate)) {
+          if (e.getStartDateTime().toLocalDate().isBefore(eventsStartDate)) {
+            eventsInWindow.add(e);
+          }
+        }
+        eventsInWindow.addAll(
+                selectedCalendar.getEventsStartingBetween(eventsStartDate, eventsEndDate));
+      }
 
       if (eventsInWindow == null || eventsInWindow.isEmpty()) {
         calendarView.printError("No events found between "
@@ -207,7 +210,7 @@ public class CopyEventCommand extends AbstractCommand {
 
       calendarModel.copyEvents(convertEvents(
                       eventsInWindow,
-                      LocalDate.parse(targetDate),
+                      targetDate,
                       calendarModel.getCalendarTimezone(null),
                       calendarModel.getCalendarTimezone(targetCalendar)),
               targetCalendar);
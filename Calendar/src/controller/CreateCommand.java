@@ -4,12 +4,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import model.calendar.Calendar;
 import model.calendar.CalendarManagement;
@@ -21,39 +16,7 @@ import view.CalendarView;
  * calendar controller.
  */
 public class CreateCommand extends AbstractCommand {
-  private static final Pattern CreateSingleEvent = Pattern.compile(
-          "^create event \"([^\"]+)\" from "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) to "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})$");
-
-  private static final Pattern CreateEventSeriesNum = Pattern.compile(
-          "^create event \"([^\"]+)\" from "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) to "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) repeats "
-                  + "([MTWRFSU]+) for (\\d+) times$");
-
-  private static final Pattern CreateEventSeriesUntil = Pattern.compile(
-          "^create event \"([^\"]+)\" from "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) to "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) repeats "
-                  + "([MTWRFSU]+) until (\\d{4}-\\d{2}-\\d{2})$");
-
-  private static final Pattern AllDayEvent = Pattern.compile(
-          "^create event \"([^\"]+)\" on (\\d{4}-\\d{2}-\\d{2})$");
-
-  private static final Pattern AllDayEventSeriesNum = Pattern.compile(
-          "^create event \"([^\"]+)\" on (\\d{4}-\\d{2}-\\d{2}) "
-                  + "repeats ([MTWRFSU]+) for (\\d+) times$");
-
-  private static final Pattern AllDayEventSeriesUntil = Pattern.compile(
-          "^create event \"([^\"]+)\" on (\\d{4}-\\d{2}-\\d{2}) "
-                  + "repeats ([MTWRFSU]+) until (\\d{4}-\\d{2}-\\d{2})$");
-
-  private static final Pattern CreateCalendar = Pattern.compile(
-          "^create calendar --name ([^\"]+) --timezone "
-                  + "([A-Za-z_]+/[A-Za-z_]+)");
-
-  private final String tokensString;
+  private final ParsedCommand command;
   private final CalendarManagement calendarModel;
   private final Calendar selectedCalendar;
   private CalendarView calendarView;
@@ -68,7 +31,20 @@ public class CreateCommand extends AbstractCommand {
   public CreateCommand(String tokensString,
                        CalendarManagement calendarModel,
                        CalendarView calendarView) {
-    this.tokensString = "create" + tokensString;
+    this(CommandParser.parse("create" + tokensString), calendarModel, calendarView);
+  }
+
+  /**
+   * Constructor for the create command from a command that was already parsed.
+   *
+   * @param command       the parsed command.
+   * @param calendarModel a calendar model.
+   * @param calendarView  a calendar view.
+   */
+  public CreateCommand(ParsedCommand command,
+                       CalendarManagement calendarModel,
+                       CalendarView calendarView) {
+    this.command = command;
     this.calendarModel = calendarModel;
     this.selectedCalendar = calendarModel.getSelectedCalendar();
     this.calendarView = calendarView;
@@ -76,9 +52,8 @@ public class CreateCommand extends AbstractCommand {
 
   @Override
   public void execute() throws IllegalArgumentException {
-    Matcher m;
-    if ((m = CreateCalendar.matcher(tokensString)).matches()) {
-      handleCreateCalendar(m);
+    if (command.getKind() == ParsedCommand.Kind.CREATE_CALENDAR) {
+      handleCreateCalendar();
       return;
     }
 
@@ -86,45 +61,33 @@ public class CreateCommand extends AbstractCommand {
       return;
     }
 
-    if ((m = CreateSingleEvent.matcher(tokensString)).matches()) {
-      handleSingleEvent(m, false);
-    } else if ((m = CreateEventSeriesNum.matcher(tokensString)).matches()) {
-      handleRepeatingEventNTimes(m, false);
-    } else if ((m = CreateEventSeriesUntil.matcher(tokensString)).matches()) {
-      handleRepeatingEventUntil(m, false);
-    } else if ((m = AllDayEvent.matcher(tokensString)).matches()) {
-      handleSingleEvent(m, true);
-    } else if ((m = AllDayEventSeriesNum.matcher(tokensString)).matches()) {
-      handleRepeatingEventNTimes(m, true);
-    } else if ((m = AllDayEventSeriesUntil.matcher(tokensString)).matches()) {
-      handleRepeatingEventUntil(m, true);
-    } else {
-      calendarView.printError("Invalid command: \"" + tokensString + "\"");
+    switch (command.getKind()) {
+      case CREATE_EVENT:
+        handleSingleEvent();
+        break;
+      case CREATE_SERIES_TIMES:
+        handleRepeatingEventNTimes();
+        break;
+      case CREATE_SERIES_UNTIL:
+        handleRepeatingEventUntil();
+        break;
+      default:
+        calendarView.printError("Invalid command: \"" + command.getLine() + "\"");
+        break;
     }
   }
 
-  private void handleSingleEvent(Matcher m, boolean isALlDayEvent) {
-    String subject = m.group(1);
-    String start;
-    String end;
-    if (isALlDayEvent) {
-      start = m.group(2) + "T08:00";
-      end = m.group(2) + "T17:00";
-    } else {
-      start = m.group(2);
-      end = m.group(3);
-    }
-
-    if (!isValidDateTime(start) || !isValidDateTime(end)) {
+  private void handleSingleEvent() {
+    if (command.getStart() == null || command.getEnd() == null) {
       calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
       return;
     }
 
     try {
       selectedCalendar.createEvent(
-              subject,
-              LocalDateTime.parse(start),
-              LocalDateTime.parse(end),
+              command.getSubject(),
+              command.getStart(),
+              command.getEnd(),
               "",
               null,
               null
@@ -134,46 +97,24 @@ public class CreateCommand extends AbstractCommand {
     }
   }
 
-  private void handleRepeatingEventNTimes(Matcher m, boolean isAllDayEvent) {
-    String subject = m.group(1);
-    String start;
-    String end;
-    String weekdays;
-    String repeatNum;
-    if (isAllDayEvent) {
-      start = m.group(2) + "T08:00";
-      end = m.group(2) + "T17:00";
-      weekdays = m.group(3);
-      repeatNum = m.group(4);
-    } else {
-      start = m.group(2);
-      end = m.group(3);
-      weekdays = m.group(4);
-      repeatNum = m.group(5);
-    }
-
-    if (!isValidDateTime(start) || !isValidDateTime(end)) {
+  private void handleRepeatingEventNTimes() {
+    if (command.getStart() == null || command.getEnd() == null) {
       calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
       return;
     }
 
-    if (!isValidWeekdayFormat(weekdays)) {
-      calendarView.printError("Invalid weekday format. Expected subset of MTWRFSU");
-      return;
-    }
-
-    if (Integer.parseInt(repeatNum) < 1) {
+    if (command.getOccurrences() < 1) {
       calendarView.printError("Invalid repeat number. Must be greater than 0");
       return;
     }
 
     try {
       selectedCalendar.createEventSeries(
-              subject,
-              LocalDateTime.parse(start),
-              LocalDateTime.parse(end),
-              parseDays(weekdays),
-              Integer.parseInt(repeatNum),
+              command.getSubject(),
+              command.getStart(),
+              command.getEnd(),
+              command.getRepeatDays(),
+              command.getOccurrences(),
               null,
               null,
               null
@@ -183,45 +124,23 @@ public class CreateCommand extends AbstractCommand {
     }
   }
 
-  private void handleRepeatingEventUntil(Matcher m, boolean isALlDayEvent) {
-    String subject = m.group(1);
-    String start;
-    String end;
-    String weekdays;
-    String untilDate;
-    if (isALlDayEvent) {
-      start = m.group(2) + "T08:00";
-      end = m.group(2) + "T17:00";
-      weekdays = m.group(3);
-      untilDate = m.group(4) + "T23:59";
-
-    } else {
-      start = m.group(2);
-      end = m.group(3);
-      weekdays = m.group(4);
-      untilDate = m.group(5) + "T23:59";
-    }
-
-    if (!isValidDateTime(start) || !isValidDateTime(end)) {
+  private void handleRepeatingEventUntil() {
+    if (command.getStart() == null || command.getEnd() == null
+            || command.getEndDate() == null) {
       calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
       return;
     }
 
-    if (!isValidWeekdayFormat(weekdays)) {
-      calendarView.printError("Invalid weekday format. Expected subset of MTWRFSU");
-      return;
-    }
-
     try {
       selectedCalendar.createEventSeries(
-              subject,
-              LocalDateTime.parse(start),
-              LocalDateTime.parse(end),
-              parseDays(weekdays),
+              command.getSubject(),
+              command.getStart(),
+              command.getEnd(),
+              command.getRepeatDays(),
               calculateWeeksNeeded(
-                      LocalDateTime.parse(start),
-                      LocalDateTime.parse(untilDate),
-                      parseDays(weekdays)
+                      command.getStart(),
+                      command.getEndDate().atTime(23, 59),
+                      command.getRepeatDays()
               ),
               null,
               null,
@@ -232,9 +151,9 @@ public class CreateCommand extends AbstractCommand {
     }
   }
 
-  private void handleCreateCalendar(Matcher m) {
-    String name = m.group(1);
-    String timezone = m.group(2);
+  private void handleCreateCalendar() {
+    String name = command.getName();
+    String timezone = command.getValue();
 
     try {
       if (!isValidZoneId(timezone)) {
@@ -247,32 +166,6 @@ public class CreateCommand extends AbstractCommand {
     }
   }
 
-  private static final Map<Character, DayOfWeek> dayMap;
-
-  static {
-    dayMap = new HashMap<>();
-    dayMap.put('M', DayOfWeek.MONDAY);
-    dayMap.put('T', DayOfWeek.TUESDAY);
-    dayMap.put('W', DayOfWeek.WEDNESDAY);
-    dayMap.put('R', DayOfWeek.THURSDAY);
-    dayMap.put('F', DayOfWeek.FRIDAY);
-    dayMap.put('S', DayOfWeek.SATURDAY);
-    dayMap.put('U', DayOfWeek.SUNDAY);
-  }
-
-  private static List<DayOfWeek> parseDays(String input) {
-    List<DayOfWeek> days = new ArrayList<>();
-    for (char c : input.toUpperCase().toCharArray()) {
-      DayOfWeek day = dayMap.get(c);
-      if (day != null) {
-        days.add(day);
-      } else {
-        throw new IllegalArgumentException("Invalid day character: " + c);
-      }
-    }
-    return days;
-  }
-
   private static int calculateWeeksNeeded(LocalDateTime startDate,
                                           LocalDateTime repeatUntilDate,
                                           List<DayOfWeek> repeatDays) {
@@ -4,10 +4,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import model.calendar.Calendar;
 import model.calendar.CalendarManagement;
@@ -24,24 +23,11 @@ import view.CalendarView;
  * calendar controller.
  */
 public class EditCommand extends AbstractCommand {
-  private static final Pattern EditSingleEvent = Pattern.compile(
-          "^edit event (subject|start|end|description|location|status) "
-                  + "\"([^\"]+)\" from (\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) to "
-                  + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) with (.+)$");
+  // new start and end values keep the ISO format edits have always accepted,
+  // which allows seconds unlike the times that identify the event
+  private static final DateTimeFormatter NEW_TIME_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-  private static final Pattern EditEvents = Pattern.compile(
-          "^edit events (subject|start|end|description|location|status) "
-                  + "\"([^\"]+)\" from (\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) with (.+)$");
-
-  private static final Pattern EditEventSeries = Pattern.compile(
-          "^edit series (subject|start|end|description|location|status) "
-                  + "\"([^\"]+)\" from (\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) with (.+)$");
-
-  private static final Pattern EditCalendar = Pattern.compile(
-          "^edit calendar --name ([^\"]+) --property "
-                  + "(name|timezone) ([^\"]+)$");
-
-  private final String tokensString;
+  private final ParsedCommand command;
   private final CalendarManagement calendarModel;
   private final Calendar selectedCalendar;
   private CalendarView calendarView;
@@ -56,7 +42,20 @@ public class EditCommand extends AbstractCommand {
   public EditCommand(String tokensString,
                      CalendarManagement calendarModel,
                      CalendarView calendarView) {
-    this.tokensString = "edit" + tokensString;
+    this(CommandParser.parse("edit" + tokensString), calendarModel, calendarView);
+  }
+
+  /**
+   * Constructor for the edit command from a command that was already parsed.
+   *
+   * @param command       the parsed command.
+   * @param calendarModel a calendar model.
+   * @param calendarView  a calendar view.
+   */
+  public EditCommand(ParsedCommand command,
+                     CalendarManagement calendarModel,
+                     CalendarView calendarView) {
+    this.command = command;
     this.calendarModel = calendarModel;
     this.selectedCalendar = calendarModel.getSelectedCalendar();
     this.calendarView = calendarView;
@@ -64,10 +63,8 @@ public class EditCommand extends AbstractCommand {
 
   @Override
   public void execute() throws IllegalArgumentException {
-    Matcher m;
-
-    if ((m = EditCalendar.matcher(tokensString)).matches()) {
-      handleEditCalendar(m);
+    if (command.getKind() == ParsedCommand.Kind.EDIT_CALENDAR) {
+      handleEditCalendar();
       return;
     }
 
@@ -75,30 +72,34 @@ public class EditCommand extends AbstractCommand {
       return;
     }
 
-    if ((m = EditSingleEvent.matcher(tokensString)).matches()) {
-      handleEditSingleEvent(m);
-    } else if ((m = EditEvents.matcher(tokensString)).matches()) {
-      handleEditEventsFrom(m);
-    } else if ((m = EditEventSeries.matcher(tokensString)).matches()) {
-      handleEditSeries(m);
-    } else {
-      calendarView.printError("Invalid edit command: \"" + tokensString + "\"\n");
+    switch (command.getKind()) {
+      case EDIT_EVENT:
+        handleEditEvent(EditMode.SINGLE);
+        break;
+      case EDIT_EVENTS:
+        handleEditEvent(EditMode.FUTURE);
+        break;
+      case EDIT_SERIES:
+        handleEditEvent(EditMode.ALL);
+        break;
+      default:
+        calendarView.printError("Invalid edit command: \"" + command.getLine() + "\"\n");
+        break;
     }
   }
 
-  private void handleEditSingleEvent(Matcher m) {
-    String property = m.group(1);
-    String subject = m.group(2);
-    String from = m.group(3);
-    String to = m.group(4);
-    String newValue = m.group(5);
-
-    if (!isValidDateTime(from) || !isValidDateTime(to)) {
+  private void handleEditEvent(EditMode mode) {
+    LocalDateTime from = command.getStart();
+    LocalDateTime to = command.getEnd();
+    if (from == null || (mode == EditMode.SINGLE && to == null)) {
       calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
       return;
     }
 
-    if (!isValidNewValue(property, newValue)) {
+    String property = command.getProperty();
+    boolean timeEdit = "start".equals(property) || "end".equals(property);
+    LocalDateTime newTime = timeEdit ? parseDateTime(command.getValue(), NEW_TIME_FORMAT) : null;
+    if (timeEdit ? newTime == null : !isValidNewValue(property, command.getValue())) {
       calendarView.printError("Invalid new value format. Make sure the new "
               + "value is of the same type as you are trying to edit");
       return;
@@ -106,78 +107,21 @@ public class EditCommand extends AbstractCommand {
 
     try {
       selectedCalendar.editEvent(
-              subject,
-              LocalDateTime.parse(from),
-              editEventHelper(subject, from, to, property, newValue),
-              EditMode.SINGLE
-      );
-    } catch (Exception e) {
-      calendarView.printError(e.getMessage());
-    }
-  }
-
-  private void handleEditEventsFrom(Matcher m) {
-    String property = m.group(1);
-    String subject = m.group(2);
-    String from = m.group(3);
-    String newValue = m.group(4);
-
-    if (!isValidDateTime(from)) {
-      calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
-      return;
-    }
-
-    if (!isValidNewValue(property, newValue)) {
-      calendarView.printError("Invalid new value format. Make sure the new value is of "
-              + "the same type as you are trying to edit");
-      return;
-    }
-
-    try {
-      selectedCalendar.editEvent(
-              subject,
-              LocalDateTime.parse(from),
-              editEventHelper(subject, from, null, property, newValue),
-              EditMode.FUTURE
-      );
-    } catch (Exception e) {
-      calendarView.printError(e.getMessage());
-    }
-  }
-
-  private void handleEditSeries(Matcher m) {
-    String property = m.group(1);
-    String subject = m.group(2);
-    String from = m.group(3);
-    String newValue = m.group(4);
-
-    if (!isValidDateTime(from)) {
-      calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
-      return;
-    }
-
-    if (!isValidNewValue(property, newValue)) {
-      calendarView.printError("Invalid new value format. Make sure the new value "
-              + "is of the same type as you are trying to edit");
-      return;
-    }
-
-    try {
-      selectedCalendar.editEvent(
-              subject,
-              LocalDateTime.parse(from),
-              editEventHelper(subject, from, null, property, newValue),
-              EditMode.ALL
+              command.getSubject(),
+              from,
+              editEventHelper(command.getSubject(), from, to, property, command.getValue(),
+                      newTime),
+              mode
       );
     } catch (Exception e) {
       calendarView.printError(e.getMessage());
     }
   }
 
-  private void handleEditCalendar(Matcher m) {
-    String name = m.group(1);
-    String property = m.group(2);
-    String newValue = m.group(3);
+  private void handleEditCalendar() {
+    String name = command.getName();
+    String property = command.getProperty();
+    String newValue = command.getValue();
 
     if (!isValidNewValue(property, newValue)) {
       calendarView.printError("Invalid new value format. Make sure the new value is "
@@ -364,7 +308,7 @@ public class EditCommand extends AbstractCommand {
         return !newValue.trim().isEmpty();
       case "start":
       case "end":
-        return isValidDateTime(newValue);
+        return parseDateTime(newValue, NEW_TIME_FORMAT) != null;
       case "location":
         try {
           Location.valueOf(newValue.toUpperCase());
@@ -386,30 +330,18 @@ public class EditCommand extends AbstractCommand {
     }
   }
 
-  /**
-   * Validates if a string is a valid datetime format.
-   */
-  public boolean isValidDateTime(String dateTime) {
-    try {
-      LocalDateTime.parse(dateTime);
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
   private EventInterface editEventHelper(
           String subject,
-          String from,
-          String to,
+          LocalDateTime startDateTime,
+          LocalDateTime to,
           String property,
-          String newValue
+          String newValue,
+          LocalDateTime newTime
   ) {
-    LocalDateTime startDateTime = LocalDateTime.parse(from);
     LocalDateTime endDateTime = null;
 
     if (to != null) {
-      endDateTime = LocalDateTime.parse(to);
+      endDateTime = to;
     } else {
       List<Event> eventsOnDate = selectedCalendar.getEventsSingleDay(startDateTime.toLocalDate());
       for (Event e : eventsOnDate) {
@@ -422,7 +354,7 @@ public class EditCommand extends AbstractCommand {
 
     try {
       EventInterface oldEvent = selectedCalendar.getEvent(
-              subject, LocalDateTime.parse(from), endDateTime
+              subject, startDateTime, endDateTime
       );
       if (oldEvent == null) {
         return null;
@@ -442,10 +374,10 @@ public class EditCommand extends AbstractCommand {
           newEventBuilder.setSubject(newValue);
           break;
         case "start":
-          newEventBuilder.setStartDateTime(LocalDateTime.parse(newValue));
+          newEventBuilder.setStartDateTime(newTime);
           break;
         case "end":
-          newEventBuilder.setEndDateTime(LocalDateTime.parse(newValue));
+          newEventBuilder.setEndDateTime(newTime);
           break;
         case "description":
           newEventBuilder.setDescription(newValue);
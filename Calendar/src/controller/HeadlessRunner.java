@@ -0,0 +1,22 @@
+package controller;
+
+/**
+ * A way of running the commands of a headless script, which receives the
+ * commands in the order of the script and may run them later or on other
+ * threads, as long as the output appears in the order of the script.
+ */
+interface HeadlessRunner {
+  /**
+   * Runs or schedules the next command of the script.
+   *
+   * @param command      the first word of the command.
+   * @param tokensString the rest of the line of the command.
+   */
+  void submit(String command, String tokensString);
+
+  /**
+   * Waits until every command submitted so far has run and its output has been
+   * displayed. Calling it again has no further effect.
+   */
+  void finish();
+}
@@ -0,0 +1,173 @@
+package controller;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import model.calendar.Calendar;
+import model.calendar.CalendarManagement;
+import view.CalendarView;
+
+/**
+ * A runner for headless scripts that runs the commands of different calendars on
+ * different threads while keeping the result of the script the same as running
+ * it one command at a time.
+ *
+ * <p>The runner reads the script in order and follows the selected calendar the
+ * way a single session would. Every command that works on a calendar is chained
+ * after the earlier commands on the same calendar, and a copy is also chained
+ * after the earlier commands on its target calendar, so commands on unrelated
+ * calendars run side by side. Selecting a calendar and commands with no calendar
+ * selected run on the reading thread, while creating or editing a calendar waits
+ * for every command before it, since those change which calendars exist. The
+ * output of every command is captured and displayed in the order of the script.
+ */
+final class ParallelHeadlessRunner implements HeadlessRunner {
+  private static final int MAX_PENDING = 4096;
+
+  private final CalendarManagement calendarModel;
+  private final CalendarManagement planner;
+  private final CalendarView calendarView;
+  private final ExecutorService workers;
+  private final Map<Calendar, CompletableFuture<Void>> lastTasks = new IdentityHashMap<>();
+  private final Map<Calendar, CalendarManagement> sessions = new IdentityHashMap<>();
+  private final ArrayDeque<PendingCommand> pending = new ArrayDeque<>();
+
+  /**
+   * Constructor for the runner.
+   *
+   * @param calendarModel the calendar management the commands run against.
+   * @param calendarView  the view the output is displayed on, in script order.
+   * @param threads       the number of worker threads.
+   */
+  ParallelHeadlessRunner(CalendarManagement calendarModel, CalendarView calendarView,
+                         int threads) {
+    this.calendarModel = calendarModel;
+    this.planner = calendarModel.openSession();
+    this.calendarView = calendarView;
+    this.workers = Executors.newFixedThreadPool(threads);
+  }
+
+  @Override
+  public void submit(String command, String tokensString) {
+    ParsedCommand parsed = CommandParser.parse(command + tokensString);
+    Calendar selected = planner.getSelectedCalendar();
+
+    switch (parsed.getKind()) {
+      case CREATE_CALENDAR:
+      case EDIT_CALENDAR:
+        awaitAll();
+        runNow(command, parsed);
+        break;
+      case USE_CALENDAR:
+        runNow(command, parsed);
+        Calendar now = planner.getSelectedCalendar();
+        if (now != null && !sessions.containsKey(now)) {
+          CalendarManagement session = calendarModel.openSession();
+          session.selectCalendar(parsed.getName());
+          sessions.put(now, session);
+        }
+        break;
+      case COPY_EVENT:
+      case COPY_DAY:
+      case COPY_WINDOW:
+        if (selected == null) {
+          runNow(command, parsed);
+        } else {
+          runAfter(command, parsed, selected, calendarModel.getCalendar(parsed.getTarget()));
+        }
+        break;
+      default:
+        if (selected == null) {
+          runNow(command, parsed);
+        } else {
+          runAfter(command, parsed, selected, null);
+        }
+        break;
+    }
+
+    while (!pending.isEmpty()
+            && (pending.size() > MAX_PENDING || pending.peekFirst().task.isDone())) {
+      display(pending.pollFirst());
+    }
+  }
+
+  @Override
+  public void finish() {
+    try {
+      while (!pending.isEmpty()) {
+        display(pending.pollFirst());
+      }
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  private void runNow(String command, ParsedCommand parsed) {
+    PendingCommand next = new PendingCommand(CompletableFuture.completedFuture(null));
+    run(planner, command, parsed, next.output);
+    pending.addLast(next);
+  }
+
+  private void runAfter(String command, ParsedCommand parsed, Calendar selected,
+                        Calendar target) {
+    CalendarManagement session = sessions.get(selected);
+    CapturedOutput output = new CapturedOutput();
+    CompletableFuture<Void> previous = lastTasks.get(selected);
+    if (target != null && target != selected && lastTasks.containsKey(target)) {
+      previous = previous == null ? lastTasks.get(target)
+              : CompletableFuture.allOf(previous, lastTasks.get(target));
+    }
+
+    Runnable task = () -> run(session, command, parsed, output);
+    CompletableFuture<Void> scheduled = previous == null
+            ? CompletableFuture.runAsync(task, workers)
+            : previous.thenRunAsync(task, workers);
+
+    lastTasks.put(selected, scheduled);
+    if (target != null) {
+      lastTasks.put(target, scheduled);
+    }
+    pending.addLast(new PendingCommand(scheduled, output));
+  }
+
+  private void awaitAll() {
+    CompletableFuture.allOf(lastTasks.values().toArray(new CompletableFuture<?>[0])).join();
+    lastTasks.clear();
+  }
+
+  private static void run(CalendarManagement session, String command, ParsedCommand parsed,
+                          CapturedOutput output) {
+    CalendarView view = new CalendarView(output);
+    try {
+      new CalendarController(session, view).processCommand(command, parsed);
+    } catch (RuntimeException e) {
+      view.printError(e.getMessage());
+    }
+  }
+
+  private void display(PendingCommand command) {
+    command.task.join();
+    command.output.displayOn(calendarView);
+  }
+
+  /**
+   * A command that was scheduled, together with the output it produces.
+   */
+  private static final class PendingCommand {
+    private final CompletableFuture<Void> task;
+    private final CapturedOutput output;
+
+    private PendingCommand(CompletableFuture<Void> task) {
+      this(task, new CapturedOutput());
+    }
+
+    private PendingCommand(CompletableFuture<Void> task, CapturedOutput output) {
+      this.task = task;
+      this.output = output;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package controller;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A command of the text command language after parsing, holding the form of
+ * the command and its arguments as typed values. Dates and date times that have
+ * the right shape but do not exist, such as 2025-02-30, are held as null so that
+ * the commands can report them as invalid formats.
+ */
+public final class ParsedCommand {
+  /**
+   * The forms of command the parser recognizes.
+   */
+  public enum Kind {
+    CREATE_CALENDAR,
+    CREATE_EVENT,
+    CREATE_SERIES_TIMES,
+    CREATE_SERIES_UNTIL,
+    EDIT_CALENDAR,
+    EDIT_EVENT,
+    EDIT_EVENTS,
+    EDIT_SERIES,
+    PRINT_DAY,
+    PRINT_WINDOW,
+    SHOW_STATUS,
+    USE_CALENDAR,
+    COPY_EVENT,
+    COPY_DAY,
+    COPY_WINDOW,
+    INVALID
+  }
+
+  final String line;
+  Kind kind = Kind.INVALID;
+  String name;
+  String subject;
+  String property;
+  String value;
+  String target;
+  LocalDateTime start;
+  LocalDateTime end;
+  LocalDateTime targetDateTime;
+  LocalDate date;
+  LocalDate endDate;
+  LocalDate targetDate;
+  List<DayOfWeek> repeatDays;
+  int occurrences;
+
+  ParsedCommand(String line) {
+    this.line = line;
+  }
+
+  /**
+   * Gets the line the command was parsed from.
+   *
+   * @return the line of the command.
+   */
+  public String getLine() {
+    return line;
+  }
+
+  /**
+   * Gets the form of the command, which is invalid if the line does not follow
+   * any form of the command language.
+   *
+   * @return the form of the command.
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Gets the name of the calendar the command creates, edits or uses.
+   *
+   * @return the name of the calendar.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the subject of the event the command creates, edits or copies.
+   *
+   * @return the subject of the event.
+   */
+  public String getSubject() {
+    return subject;
+  }
+
+  /**
+   * Gets the property an edit command changes.
+   *
+   * @return the property to be edited.
+   */
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * Gets the new value of an edit command, or the timezone of a created calendar.
+   *
+   * @return the value of the command.
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the name of the calendar a copy command copies to.
+   *
+   * @return the name of the target calendar.
+   */
+  public String getTarget() {
+    return target;
+  }
+
+  /**
+   * Gets the start of the event or window of the command.
+   *
+   * @return the start date time, or null if it does not exist.
+   */
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  /**
+   * Gets the end of the event or window of the command.
+   *
+   * @return the end date time, or null if it does not exist.
+   */
+  public LocalDateTime getEnd() {
+    return end;
+  }
+
+  /**
+   * Gets the date time a single event is copied to.
+   *
+   * @return the target date time, or null if it does not exist.
+   */
+  public LocalDateTime getTargetDateTime() {
+    return targetDateTime;
+  }
+
+  /**
+   * Gets the date the command queries or copies from.
+   *
+   * @return the date, or null if it does not exist.
+   */
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Gets the last date of a copied range, or the date a series repeats until.
+   *
+   * @return the end date, or null if it does not exist.
+   */
+  public LocalDate getEndDate() {
+    return endDate;
+  }
+
+  /**
+   * Gets the date events are copied to.
+   *
+   * @return the target date, or null if it does not exist.
+   */
+  public LocalDate getTargetDate() {
+    return targetDate;
+  }
+
+  /**
+   * Gets the days of the week a created series repeats on.
+   *
+   * @return the repeat days of the series.
+   */
+  public List<DayOfWeek> getRepeatDays() {
+    return repeatDays;
+  }
+
+  /**
+   * Gets the number of times a created series repeats.
+   *
+   * @return the number of occurrences of the series.
+   */
+  public int getOccurrences() {
+    return occurrences;
+  }
+}
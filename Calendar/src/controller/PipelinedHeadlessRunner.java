@@ -0,0 +1,170 @@
+package controller;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import model.calendar.CalendarManagement;
+import view.CalendarView;
+
+/**
+ * A runner for headless scripts that splits running a command into three stages
+ * on three threads: the reading thread parses each line, a second thread runs the
+ * parsed commands against the model one at a time, and a third thread displays
+ * their output. While one command runs, the next one is being parsed and the
+ * output of the one before it is being displayed.
+ *
+ * <p>The stages are joined by bounded queues, so a slow stage holds back the ones
+ * before it rather than letting parsed commands pile up. Each stage handles the
+ * commands in the order of the script, so the model sees the same commands in the
+ * same order as a sequential run and the output appears in the same order.
+ *
+ * <p>A failure that stops a stage is reported when the script is finished. The
+ * execute stage always hands the end of the output to the display stage, and the
+ * display stage keeps draining after a failure, so finishing never waits forever.
+ */
+final class PipelinedHeadlessRunner implements HeadlessRunner {
+  private static final int QUEUE_CAPACITY = 1024;
+  private static final ParsedLine END_OF_SCRIPT = new ParsedLine(null, null);
+  private static final CapturedOutput END_OF_OUTPUT = new CapturedOutput();
+
+  private final CalendarManagement calendarModel;
+  private final CalendarView calendarView;
+  private final BlockingQueue<ParsedLine> parsed = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final BlockingQueue<CapturedOutput> rendered =
+          new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final Thread executor;
+  private final Thread renderer;
+  private volatile Throwable executeFailure;
+  private volatile Throwable renderFailure;
+  private boolean finished;
+
+  /**
+   * Constructor for the runner, which starts the threads of the execute and
+   * display stages.
+   *
+   * @param calendarModel the calendar management the commands run against.
+   * @param calendarView  the view the output is displayed on.
+   */
+  PipelinedHeadlessRunner(CalendarManagement calendarModel, CalendarView calendarView) {
+    this.calendarModel = calendarModel;
+    this.calendarView = calendarView;
+    this.executor = new Thread(this::executeCommands, "calendar-execute");
+    this.renderer = new Thread(this::renderOutput, "calendar-render");
+    executor.setDaemon(true);
+    renderer.setDaemon(true);
+    executor.start();
+    renderer.start();
+  }
+
+  @Override
+  public void submit(String command, String tokensString) {
+    if (!submit(new ParsedLine(command, CommandParser.parse(command + tokensString)))) {
+      throw new IllegalStateException("The commands stopped running.", executeFailure);
+    }
+  }
+
+  @Override
+  public void finish() {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    submit(END_OF_SCRIPT);
+    try {
+      executor.join();
+      renderer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while finishing the script.", e);
+    }
+    Throwable failure = executeFailure != null ? executeFailure : renderFailure;
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+  }
+
+  private boolean submit(ParsedLine line) {
+    try {
+      while (!parsed.offer(line, 100, TimeUnit.MILLISECONDS)) {
+        if (!executor.isAlive()) {
+          return false;
+        }
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while submitting a command.", e);
+    }
+  }
+
+  private void executeCommands() {
+    try {
+      for (ParsedLine line = parsed.take(); line != END_OF_SCRIPT; line = parsed.take()) {
+        CapturedOutput output = new CapturedOutput();
+        CalendarView view = new CalendarView(output);
+        try {
+          new CalendarController(calendarModel, view).processCommand(line.command, line.parsed);
+        } catch (RuntimeException e) {
+          view.printError(e.getMessage());
+        }
+        rendered.put(output);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Throwable e) {
+      executeFailure = e;
+    } finally {
+      putUninterruptibly(rendered, END_OF_OUTPUT);
+    }
+  }
+
+  private void renderOutput() {
+    try {
+      for (CapturedOutput output = rendered.take(); output != END_OF_OUTPUT;
+           output = rendered.take()) {
+        if (renderFailure == null) {
+          try {
+            output.displayOn(calendarView);
+          } catch (Throwable e) {
+            // keep draining so that the earlier stages are never blocked
+            renderFailure = e;
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static <T> void putUninterruptibly(BlockingQueue<T> queue, T item) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        queue.put(item);
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * A command after the parse stage.
+   */
+  private static final class ParsedLine {
+    private final String command;
+    private final ParsedCommand parsed;
+
+    private ParsedLine(String command, ParsedCommand parsed) {
+      this.command = command;
+      this.parsed = parsed;
+    }
+  }
+}
@@ -2,13 +2,9 @@ package controller;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import model.calendar.Calendar;
 import model.calendar.CalendarManagement;
-import model.event.Event;
 import view.CalendarView;
 
 /**
@@ -16,20 +12,7 @@ import view.CalendarView;
  * to be able to query events through the calendar controller.
  */
 public class QueryCommand extends AbstractCommand {
-  private static final Pattern PrintEvents = Pattern.compile(
-          "^print events on (\\d{4}-\\d{2}-\\d{2})$");
-
-  private static final Pattern PrintEventsWindow = Pattern.compile(
-          "^print events from (\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) "
-                  + "to (\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})$");
-
-  private static final Pattern ShowStatus = Pattern.compile(
-          "^show status on (\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})$");
-
-  private static final Pattern UseCalendar = Pattern.compile(
-          "^use calendar --name ([^\"]+)$");
-
-  private final String tokensString;
+  private final ParsedCommand command;
   private CalendarManagement calendarModel;
   private CalendarView calendarView;
   private final Calendar selectedCalendar;
@@ -46,7 +29,20 @@ public class QueryCommand extends AbstractCommand {
                       String command,
                       CalendarManagement calendarModel,
                       CalendarView calendarView) {
-    this.tokensString = command + tokensString;
+    this(CommandParser.parse(command + tokensString), calendarModel, calendarView);
+  }
+
+  /**
+   * Constructor for the query command from a command that was already parsed.
+   *
+   * @param command       the parsed command.
+   * @param calendarModel a calendar model.
+   * @param calendarView  the calendar view.
+   */
+  public QueryCommand(ParsedCommand command,
+                      CalendarManagement calendarModel,
+                      CalendarView calendarView) {
+    this.command = command;
     this.calendarModel = calendarModel;
     this.calendarView = calendarView;
     this.selectedCalendar = calendarModel.getSelectedCalendar();
@@ -54,10 +50,8 @@ public class QueryCommand extends AbstractCommand {
 
   @Override
   public void execute() {
-    Matcher m;
-
-    if ((m = UseCalendar.matcher(tokensString)).matches()) {
-      handelUseCalendar(m);
+    if (command.getKind() == ParsedCommand.Kind.USE_CALENDAR) {
+      handelUseCalendar();
       return;
     }
 
@@ -65,48 +59,49 @@ public class QueryCommand extends AbstractCommand {
       return;
     }
 
-    if ((m = PrintEvents.matcher(tokensString)).matches()) {
-      handlePrintEventsOn(m);
-    } else if ((m = PrintEventsWindow.matcher(tokensString)).matches()) {
-      handlePrintEventsFromTo(m);
-    } else if ((m = ShowStatus.matcher(tokensString)).matches()) {
-      handleShowStatusOn(m);
-    } else {
-      calendarView.printError("Invalid query command: \"" + tokensString + "\"\n");
+    switch (command.getKind()) {
+      case PRINT_DAY:
+        handlePrintEventsOn();
+        break;
+      case PRINT_WINDOW:
+        handlePrintEventsFromTo();
+        break;
+      case SHOW_STATUS:
+        handleShowStatusOn();
+        break;
+      default:
+        calendarView.printError("Invalid query command: \"" + command.getLine() + "\"\n");
+        break;
     }
   }
 
-  private void handlePrintEventsOn(Matcher m) {
-    String date = m.group(1);
+  private void handlePrintEventsOn() {
+    LocalDate date = command.getDate();
 
-    if (!isValidDate(date)) {
+    if (date == null) {
       calendarView.printError("Invalid date format. Expected format: yyyy-MM-dd");
       return;
     }
 
     try {
-      calendarView.printEvents(
-              selectedCalendar.getEventsSingleDay(LocalDate.parse(date)),
-              date);
+      calendarView.printEvents(selectedCalendar.getEventsSingleDay(date), date.toString());
     } catch (Exception e) {
       calendarView.printError(e.getMessage());
     }
   }
 
-  private void handlePrintEventsFromTo(Matcher m) {
-    String startDate = m.group(1);
-    String endDate = m.group(2);
+  private void handlePrintEventsFromTo() {
+    LocalDateTime startDate = command.getStart();
+    LocalDateTime endDate = command.getEnd();
 
-    if (!isValidDateTime(startDate) || !isValidDateTime(endDate)) {
+    if (startDate == null || endDate == null) {
       calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
       return;
     }
 
     try {
       calendarView.printEvents(
-              selectedCalendar.getEventsWindow(
-                      LocalDateTime.parse(startDate), LocalDateTime.parse(endDate)
-              ),
+              selectedCalendar.getEventsWindow(startDate, endDate),
               startDate + " to " + endDate);
     } catch (Exception e) {
       calendarView.printError(e.getMessage());
@@ -114,26 +109,23 @@ public class QueryCommand extends AbstractCommand {
 
   }
 
-  private void handleShowStatusOn(Matcher m) {
-    String dateTime = m.group(1);
+  private void handleShowStatusOn() {
+    LocalDateTime dateTime = command.getStart();
 
-    if (!isValidDateTime(dateTime)) {
+    if (dateTime == null) {
       calendarView.printError("Invalid datetime format. Expected format: yyyy-MM-ddTHH:mm");
       return;
     }
 
-    List<Event> events = selectedCalendar.getEventsWindow(
-            LocalDateTime.parse(dateTime), LocalDateTime.parse(dateTime)
-    );
-    if (events.isEmpty()) {
-      calendarView.printStatus("Available", dateTime);
+    if (selectedCalendar.isBusy(dateTime)) {
+      calendarView.printStatus("Busy", dateTime.toString());
     } else {
-      calendarView.printStatus("Busy", dateTime);
+      calendarView.printStatus("Available", dateTime.toString());
     }
   }
 
-  private void handelUseCalendar(Matcher m) {
-    String calendarName = m.group(1);
+  private void handelUseCalendar() {
+    String calendarName = command.getName();
 
     try {
       calendarModel.selectCalendar(calendarName);
@@ -4,16 +4,26 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import model.enums.EditMode;
 import model.event.Event;
 import model.event.EventInterface;
 import model.event.EventSeries;
+import model.event.SeriesInstance;
 import model.enums.Location;
 import model.enums.Status;
 
@@ -23,8 +33,55 @@ import model.enums.Status;
  * or even series.
  */
 public class Calendar implements CalendarInterface {
-  private final Map<LocalDate, List<Event>> eventsByDate = new HashMap<>();
+  private static final long SECONDS_PER_DAY = 86400;
+
+  private final NavigableMap<LocalDate, List<Event>> eventsByDate = new TreeMap<>();
   public final Map<String, EventSeries> mapSeries = new HashMap<>();
+  private final EventIntervalTree eventTree = new EventIntervalTree();
+  private final EventIntervalTree multiDayEvents = new EventIntervalTree();
+  private final FreeBusyIndex freeBusy = new FreeBusyIndex(eventTree);
+  private final StringDictionary strings = new StringDictionary();
+  private final Map<EventKey, List<Event>> eventsByKey = new HashMap<>();
+  private final Map<Event, EventSeries> seriesByEvent = new IdentityHashMap<>();
+  private final Set<String> seriesSubjects = new HashSet<>();
+  private final Set<LocalDateTime> seriesStarts = new HashSet<>();
+  private final EventIntervalTree lazySeriesSpans = new EventIntervalTree();
+  private final Map<Event, EventSeries> lazySeriesBySpan = new IdentityHashMap<>();
+  private final Map<EventSeries, Event> spanOfLazySeries = new IdentityHashMap<>();
+  private final boolean lazyRecurrence;
+  private final boolean timeIndexes;
+
+  /**
+   * Constructor for a calendar that stores every instance of an event series.
+   */
+  public Calendar() {
+    this(false);
+  }
+
+  /**
+   * Constructor for a calendar that can generate the instances of event series
+   * on demand during queries instead of storing them up front, only storing the
+   * instances that are edited.
+   *
+   * @param lazyRecurrence whether event series should be created as lazy series.
+   */
+  public Calendar(boolean lazyRecurrence) {
+    this(lazyRecurrence, true);
+  }
+
+  /**
+   * Constructor for a calendar that can leave out the interval trees and the
+   * free/busy index, for calendars that are only ever edited and looked up by
+   * subject and start. Such a calendar cannot answer queries over a window, a
+   * day, or free and busy times.
+   *
+   * @param lazyRecurrence whether event series should be created as lazy series.
+   * @param timeIndexes    whether the indexes behind time based queries are kept.
+   */
+  Calendar(boolean lazyRecurrence, boolean timeIndexes) {
+    this.lazyRecurrence = lazyRecurrence;
+    this.timeIndexes = timeIndexes;
+  }
 
   @Override
   public Event createEvent(String subject,
@@ -45,30 +102,32 @@ public class Calendar implements CalendarInterface {
       throw new IllegalArgumentException("End time can not be before or on start time.");
     }
 
-    LocalDate dateKey = start.toLocalDate();
-    List<Event> eventsOnDate = eventsByDate.getOrDefault(dateKey, Collections.emptyList());
-
-    for (Event e : eventsOnDate) {
-      if (e.getSubject().equals(subject)
-              && e.getStartDateTime().equals(start)
-              && e.getEndDateTime().equals(end)) {
+    for (Event e : eventsWithKey(subject, start)) {
+      if (end.equals(e.getEndDateTime())) {
         throw new IllegalArgumentException(
                 "An event with the same subject, start, and end time already exists."
         );
       }
     }
 
+    Event occurrence = findLazyOccurrence(subject, start);
+    if (occurrence != null && occurrence.getEndDateTime().equals(end)) {
+      throw new IllegalArgumentException(
+              "An event with the same subject, start, and end time already exists."
+      );
+    }
+
     Event.CustomEventBuilder builder = new Event.CustomEventBuilder()
-            .setSubject(subject)
+            .setSubject(strings.intern(subject))
             .setStartDateTime(start)
             .setEndDateTime(end)
-            .setDescription(description)
+            .setDescription(strings.intern(description))
             .setLocation(location)
             .setStatus(status);
 
     EventInterface eventBuilt = builder.build();
 
-    eventsByDate.computeIfAbsent(dateKey, d -> new ArrayList<>()).add((Event) eventBuilt);
+    indexEvent((Event) eventBuilt);
 
     return (Event) eventBuilt;
   }
@@ -82,34 +141,43 @@ public class Calendar implements CalendarInterface {
                                        String description,
                                        Location location,
                                        Status status) {
-    baseExceptions(subject, start);
-
-    for (EventSeries events : mapSeries.values()) {
-      if (events.getSubject().equals(subject) || events.getStartDateTime().equals(start)) {
-        throw new IllegalArgumentException(
-                "Subject and start time cannot be the same as an existing series!"
-        );
-      }
-    }
+    validateSeries(subject, start, end, repeatDays);
+    subject = strings.intern(subject);
+    description = strings.intern(description);
 
     if (end == null) {
       start = start.toLocalDate().atTime(8, 0);
       end = start.toLocalDate().atTime(17, 0);
     }
 
-    if (repeatDays == null || repeatDays.isEmpty()) {
-      throw new IllegalArgumentException("Repeat days cannot be null or empty.");
-    }
-
-    if (end.isBefore(start) || end.isEqual(start)) {
-      throw new IllegalArgumentException("End time can not be before or on start time.");
-    }
-
     EventSeries series = new EventSeries(subject, start);
     series.setRepeatDays(repeatDays);
     series.setOccurrences(occurrences);
     series.setEndDateTimeOfSeries(end);
 
+    if (lazyRecurrence) {
+      series.setTemplate((Event) new Event.CustomEventBuilder()
+              .setSubject(subject)
+              .setStartDateTime(start)
+              .setEndDateTime(end)
+              .setDescription(description)
+              .setLocation(location)
+              .setStatus(status)
+              .build());
+      addLazySeries(series);
+      registerSeries(series);
+      return series;
+    }
+
+    series.setInstanceTemplate((Event) new Event.CustomEventBuilder()
+            .setSubject(subject)
+            .setStartDateTime(start)
+            .setEndDateTime(end)
+            .setDescription(description)
+            .setLocation(location)
+            .setStatus(status)
+            .build());
+
     int count = 0;
 
     Duration eventDuration = Duration.between(start, end);
@@ -131,19 +199,11 @@ public class Calendar implements CalendarInterface {
         LocalDateTime instanceStart = currentCheck.toLocalDate().atTime(start.toLocalTime());
         LocalDateTime instanceEnd = instanceStart.plus(eventDuration);
 
-        Event.CustomEventBuilder builder = new Event.CustomEventBuilder()
-                .setSubject(subject)
-                .setStartDateTime(instanceStart)
-                .setEndDateTime(instanceEnd)
-                .setDescription(description)
-                .setLocation(location)
-                .setStatus(status);
-
-        Event instance = (Event) builder.build();
+        Event instance = series.createInstance(instanceStart, instanceEnd);
 
         series.addInstance(instance);
-        eventsByDate.computeIfAbsent(instanceStart.toLocalDate(),d -> new ArrayList<>())
-                .add(instance);
+        seriesByEvent.put(instance, series);
+        indexEvent(instance);
 
         count++;
 
@@ -155,10 +215,74 @@ public class Calendar implements CalendarInterface {
       currentCheck = currentCheck.plusDays(1);
     }
 
-    mapSeries.put(subject, series);
+    registerSeries(series);
     return series;
   }
 
+  @Override
+  public List<EventSeries> createEventSeries(List<EventSeries> batch)
+          throws IllegalArgumentException {
+    Set<String> batchSubjects = new HashSet<>();
+    Set<LocalDateTime> batchStarts = new HashSet<>();
+
+    for (EventSeries spec : batch) {
+      String subject = spec.getSubject();
+      LocalDateTime start = spec.getStartDateTime();
+      validateSeries(subject, start, spec.endDateTimeOfSeries, spec.repeatDays);
+
+      if (!batchSubjects.add(subject) || !batchStarts.add(start)) {
+        throw new IllegalArgumentException(
+                "Subject and start time cannot be the same as another series in the batch!"
+        );
+      }
+    }
+
+    List<EventSeries> created = new ArrayList<>(batch.size());
+    for (EventSeries spec : batch) {
+      created.add(createEventSeries(spec.getSubject(),
+              spec.getStartDateTime(),
+              spec.endDateTimeOfSeries,
+              spec.repeatDays,
+              spec.occurrences,
+              spec.getDescription(),
+              spec.getLocation(),
+              spec.getStatus()));
+    }
+    return created;
+  }
+
+  private void validateSeries(String subject,
+                              LocalDateTime start,
+                              LocalDateTime end,
+                              List<DayOfWeek> repeatDays) throws IllegalArgumentException {
+    baseExceptions(subject, start);
+
+    if (seriesSubjects.contains(subject) || seriesStarts.contains(start)) {
+      throw new IllegalArgumentException(
+              "Subject and start time cannot be the same as an existing series!"
+      );
+    }
+
+    if (end == null) {
+      start = start.toLocalDate().atTime(8, 0);
+      end = start.toLocalDate().atTime(17, 0);
+    }
+
+    if (repeatDays == null || repeatDays.isEmpty()) {
+      throw new IllegalArgumentException("Repeat days cannot be null or empty.");
+    }
+
+    if (end.isBefore(start) || end.isEqual(start)) {
+      throw new IllegalArgumentException("End time can not be before or on start time.");
+    }
+  }
+
+  private void registerSeries(EventSeries series) {
+    mapSeries.put(series.getSubject(), series);
+    seriesSubjects.add(series.getSubject());
+    seriesStarts.add(series.getStartDateTime());
+  }
+
   @Override
   public void editEvent(String subject,
                         LocalDateTime start,
@@ -167,6 +291,12 @@ public class Calendar implements CalendarInterface {
     baseExceptions(subject, start);
     validateUpdatedEvent(updatedEvent);
 
+    EventSeries lazySeries = findLazySeries(subject, start);
+    if (lazySeries != null) {
+      editLazySeries(mode, lazySeries, subject, start, updatedEvent);
+      return;
+    }
+
     Event targetEvent = findTargetEvent(subject, start);
     EventSeries parentSeries = findParentSeries(subject, start, targetEvent);
 
@@ -178,10 +308,200 @@ public class Calendar implements CalendarInterface {
     editEventInSeries(mode, parentSeries, targetEvent, updatedEvent);
   }
 
+  private EventSeries findLazySeries(String subject, LocalDateTime start) {
+    EventSeries series = lazySeriesOccurringAt(subject, start);
+    if (series != null) {
+      return series;
+    }
+    Event stored = findEventInSeries(subject, start);
+    series = stored == null ? null : seriesByEvent.get(stored);
+    return series != null && series.isLazy() ? series : null;
+  }
+
+  private void editLazySeries(EditMode mode,
+                              EventSeries series,
+                              String subject,
+                              LocalDateTime start,
+                              EventInterface updatedEvent) {
+    Event occurrence = series.getOccurrence(start);
+    Event targetEvent = occurrence != null ? occurrence : findEventInSeries(subject, start);
+
+    switch (mode) {
+      case SINGLE:
+        if (occurrence == null) {
+          editSingleEventInSeries(series, targetEvent, updatedEvent);
+        } else {
+          series.detachOccurrence(start);
+          series.addInstance((Event) updatedEvent);
+          seriesByEvent.put((Event) updatedEvent, series);
+          indexEvent((Event) updatedEvent);
+        }
+        break;
+      case FUTURE:
+        if (series.hasOccurrenceBefore(targetEvent.getStartDateTime())
+                || (!series.getInstances().isEmpty()
+                && series.getInstances().get(0).getStartEpochSecond()
+                < targetEvent.getStartEpochSecond())) {
+          editFutureLazySeries(series, targetEvent, updatedEvent);
+        } else {
+          editAllLazySeries(series, targetEvent, updatedEvent);
+        }
+        break;
+      case ALL:
+        editAllLazySeries(series, targetEvent, updatedEvent);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported edit mode: " + mode);
+    }
+  }
+
+  private void editFutureLazySeries(EventSeries series,
+                                    Event targetEvent,
+                                    EventInterface updatedEvent) {
+    LocalDateTime splitAt = targetEvent.getStartDateTime();
+    long startShift = startShiftOf(targetEvent, updatedEvent);
+    long endShift = endShiftOf(targetEvent, updatedEvent);
+    shiftedInstances(Collections.singletonList(series.getTemplate()),
+            updatedEvent, startShift, endShift);
+    List<Event> shifted = shiftedInstances(series.getInstancesFrom(splitAt),
+            updatedEvent, startShift, endShift);
+
+    String newSubject = strings.intern(updatedEvent.getSubject());
+    EventSeries futureSeries = new EventSeries(newSubject, updatedEvent.getStartDateTime());
+    removeLazySeries(series);
+    series.moveOccurrencesFrom(splitAt, futureSeries);
+    addLazySeries(series);
+
+    for (Event instance : series.removeInstancesFrom(splitAt)) {
+      unindexEvent(instance);
+      seriesByEvent.remove(instance);
+    }
+    if (futureSeries.isLazy()) {
+      futureSeries.moveTemplate(buildShifted(futureSeries.getTemplate(), updatedEvent,
+              startShift, endShift));
+      addLazySeries(futureSeries);
+    } else {
+      futureSeries.setInstanceTemplate(shifted.get(0));
+      if (futureSeries.occurrences != null) {
+        futureSeries.setOccurrences(shifted.size());
+      }
+    }
+    for (Event instance : shifted) {
+      futureSeries.addInstance(instance);
+      seriesByEvent.put(instance, futureSeries);
+      indexEvent(instance);
+    }
+
+    // the occurrences before the edit keep the series under its subject
+    if (mapSeries.putIfAbsent(newSubject, futureSeries) == null) {
+      seriesSubjects.add(newSubject);
+    }
+  }
+
+  private void editAllLazySeries(EventSeries series,
+                                 Event targetEvent,
+                                 EventInterface updatedEvent) {
+    long startShift = startShiftOf(targetEvent, updatedEvent);
+    long endShift = endShiftOf(targetEvent, updatedEvent);
+    Event template = shiftedInstances(Collections.singletonList(series.getTemplate()),
+            updatedEvent, startShift, endShift).get(0);
+    List<Event> instances = new ArrayList<>(series.getInstances());
+    List<Event> shifted = shiftedInstances(instances, updatedEvent, startShift, endShift);
+
+    removeLazySeries(series);
+    series.moveTemplate(template);
+    addLazySeries(series);
+
+    for (int i = 0; i < instances.size(); i++) {
+      eventReplacement(instances.get(i), shifted.get(i));
+      replaceSeriesInstance(series, instances.get(i), shifted.get(i));
+    }
+    renameSeries(series, updatedEvent.getSubject());
+  }
+
+  private void addLazySeries(EventSeries series) {
+    Event span = series.getOccurrenceSpan();
+    if (span != null) {
+      lazySeriesSpans.insert(span);
+      lazySeriesBySpan.put(span, series);
+      spanOfLazySeries.put(series, span);
+    }
+  }
+
+  private void removeLazySeries(EventSeries series) {
+    Event span = spanOfLazySeries.remove(series);
+    if (span != null) {
+      lazySeriesSpans.remove(span);
+      lazySeriesBySpan.remove(span);
+    }
+  }
+
+  private List<EventSeries> lazySeriesOverlapping(LocalDateTime start, LocalDateTime end) {
+    if (spanOfLazySeries.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<EventSeries> overlapping = new ArrayList<>();
+    for (Event span : lazySeriesSpans.query(windowStart(start), windowEnd(end))) {
+      overlapping.add(lazySeriesBySpan.get(span));
+    }
+    return overlapping;
+  }
+
+  private Event findLazyOccurrence(String subject, LocalDateTime start) {
+    EventSeries series = lazySeriesOccurringAt(subject, start);
+    return series == null ? null : series.getOccurrence(start);
+  }
+
+  private EventSeries lazySeriesOccurringAt(String subject, LocalDateTime start) {
+    for (EventSeries series : lazySeriesOverlapping(start, start)) {
+      Event occurrence = series.getOccurrence(start);
+      if (occurrence != null && occurrence.getSubject().equals(subject)) {
+        return series;
+      }
+    }
+    return null;
+  }
+
+  private List<Event> withLazyOccurrences(List<Event> indexed,
+                                          LocalDateTime start,
+                                          LocalDateTime end) {
+    List<EventSeries> overlapping = lazySeriesOverlapping(start, end);
+    if (overlapping.isEmpty()) {
+      return indexed;
+    }
+
+    List<Event> generated = new ArrayList<>();
+    for (EventSeries series : overlapping) {
+      generated.addAll(series.getOccurrences(start, end));
+    }
+    if (generated.isEmpty()) {
+      return indexed;
+    }
+    generated.sort(Comparator.comparing(Event::getStartDateTime));
+
+    List<Event> merged = new ArrayList<>(indexed.size() + generated.size());
+    int i = 0;
+    int j = 0;
+    while (i < indexed.size() || j < generated.size()) {
+      if (j == generated.size() || (i < indexed.size()
+              && !indexed.get(i).getStartDateTime().isAfter(
+                      generated.get(j).getStartDateTime()))) {
+        merged.add(indexed.get(i++));
+      } else {
+        merged.add(generated.get(j++));
+      }
+    }
+    return merged;
+  }
+
   private void validateUpdatedEvent(EventInterface updatedEvent) {
     if (updatedEvent == null) {
       throw new IllegalArgumentException("Updated event cannot be null!");
     }
+    if (updatedEvent.getEndDateTime() != null
+            && updatedEvent.getEndDateTime().isBefore(updatedEvent.getStartDateTime())) {
+      throw new IllegalArgumentException("End time can not be before start time.");
+    }
   }
 
   private Event findTargetEvent(String subject, LocalDateTime start) {
@@ -197,12 +517,10 @@ public class Calendar implements CalendarInterface {
 
   private Event findEventInSeries(String subject,
                                   LocalDateTime start) {
-    EventSeries candidateSeries = mapSeries.get(subject);
-    if (candidateSeries != null) {
-      for (Event instance : candidateSeries.getInstances()) {
-        if (instance.getSubject().equals(subject) && instance.getStartDateTime().equals(start)) {
-          return instance;
-        }
+    for (Event e : eventsWithKey(subject, start)) {
+      EventSeries series = seriesByEvent.get(e);
+      if (series != null && series.getSeriesSubject().equals(subject)) {
+        return e;
       }
     }
     return null;
@@ -210,26 +528,19 @@ public class Calendar implements CalendarInterface {
 
   private Event findEventInDate(String subject,
                                 LocalDateTime start) {
-    LocalDate originalDate = start.toLocalDate();
-    List<Event> candidates = eventsByDate.getOrDefault(originalDate, Collections.emptyList());
-    for (Event e : candidates) {
-      if (e.getSubject().equals(subject) && e.getStartDateTime().equals(start)) {
-        return e;
-      }
+    List<Event> candidates = eventsWithKey(subject, start);
+    if (candidates.isEmpty()) {
+      return null;
     }
-    return null;
+    return candidates.get(0);
   }
 
   private EventSeries findParentSeries(String subject,
                                        LocalDateTime start,
                                        Event targetEvent) {
-    EventSeries candidateSeries = mapSeries.get(subject);
-    if (candidateSeries != null) {
-      for (Event instance : candidateSeries.getInstances()) {
-        if (instance.equals(targetEvent)) {
-          return candidateSeries;
-        }
-      }
+    EventSeries series = seriesByEvent.get(targetEvent);
+    if (series != null && series.getSeriesSubject().equals(subject)) {
+      return series;
     }
     return null;
   }
@@ -246,7 +557,7 @@ public class Calendar implements CalendarInterface {
         editFutureEventsInSeries(parentSeries, targetEvent, updatedEvent);
         break;
       case ALL:
-        editAllEventsInSeries(parentSeries, updatedEvent);
+        editAllEventsInSeries(parentSeries, targetEvent, updatedEvent);
         break;
       default:
         throw new IllegalArgumentException("Unsupported edit mode: " + mode);
@@ -257,69 +568,198 @@ public class Calendar implements CalendarInterface {
                                        Event targetEvent,
                                        EventInterface updatedEvent) {
     eventReplacement(targetEvent, updatedEvent);
+    replaceSeriesInstance(series, targetEvent, (Event) updatedEvent);
+  }
 
-    List<Event> instances = series.getInstances();
-    for (int i = 0; i < instances.size(); i++) {
-      if (instances.get(i).equals(targetEvent)) {
-        instances.set(i, (Event) updatedEvent);
-        break;
-      }
+  private void replaceSeriesInstance(EventSeries series, Event oldInstance, Event newInstance) {
+    if (series.replaceInstance(oldInstance, newInstance)) {
+      seriesByEvent.remove(oldInstance);
+      seriesByEvent.put(newInstance, series);
     }
   }
 
   private void editFutureEventsInSeries(EventSeries series,
                                         Event targetEvent,
                                         EventInterface updatedEvent) {
-    String oldSubject = series.getSubject();
+    if (series.getInstances().get(0).getStartEpochSecond()
+            >= targetEvent.getStartEpochSecond()) {
+      editAllEventsInSeries(series, targetEvent, updatedEvent);
+      return;
+    }
+
+    long startShift = startShiftOf(targetEvent, updatedEvent);
+    long endShift = endShiftOf(targetEvent, updatedEvent);
+    List<Event> shifted = shiftedInstances(
+            series.getInstancesFrom(targetEvent.getStartDateTime()),
+            updatedEvent, startShift, endShift);
+
+    List<Event> future = series.removeInstancesFrom(targetEvent.getStartDateTime());
+    if (series.occurrences != null) {
+      series.setOccurrences(series.getInstances().size());
+    }
+
+    Event first = shifted.get(0);
+    String newSubject = first.getSubject();
+    EventSeries futureSeries = new EventSeries(newSubject, first.getStartDateTime());
+    futureSeries.setRepeatDays(series.repeatDays);
+    futureSeries.setOccurrences(series.occurrences == null ? null : future.size());
+    futureSeries.setEndDateTimeOfSeries(series.endDateTimeOfSeries);
+    futureSeries.setInstanceTemplate(first);
+
+    for (Event instance : future) {
+      unindexEvent(instance);
+      seriesByEvent.remove(instance);
+    }
+    for (Event instance : shifted) {
+      Event moved = futureSeries.createInstance(instance.getStartDateTime(),
+              instance.getEndDateTime());
+      futureSeries.addInstance(moved);
+      seriesByEvent.put(moved, futureSeries);
+      indexEvent(moved);
+    }
+
+    // the instances before the edit keep the series under its subject
+    if (mapSeries.putIfAbsent(newSubject, futureSeries) == null) {
+      seriesSubjects.add(newSubject);
+    }
+  }
+
+  private void editAllEventsInSeries(EventSeries series,
+                                     Event targetEvent,
+                                     EventInterface updatedEvent) {
     String newSubject = updatedEvent.getSubject();
-    LocalDateTime targetStart = targetEvent.getStartDateTime();
-    List<Event> instances = series.getInstances();
+    Event template = series.getInstanceTemplate();
+    long startShift = startShiftOf(targetEvent, updatedEvent);
+    long endShift = endShiftOf(targetEvent, updatedEvent);
+
+    if (startShift != 0 || endShift != 0) {
+      shiftAllEventsInSeries(series, updatedEvent, startShift, endShift);
+    } else if (template != null) {
+      boolean renamed = !template.getSubject().equals(newSubject);
+      if (renamed) {
+        for (Event instance : series.getInstances()) {
+          if (series.sharesTemplate(instance)) {
+            unindexKey(instance);
+          }
+        }
+      }
 
-    for (Event instance : instances) {
-      if (!instance.getStartDateTime().isBefore(targetStart)) {
-        Event newInstance = buildReplacementFrom(instance, updatedEvent);
-        eventReplacement(instance, newInstance);
-
-        for (int i = 0; i < instances.size(); i++) {
-          if (instances.get(i).equals(instance)) {
-            instances.set(i, newInstance);
-            break;
+      series.setInstanceTemplate((Event) new Event.CustomEventBuilder()
+              .setSubject(strings.intern(newSubject))
+              .setStartDateTime(template.getStartDateTime())
+              .setEndDateTime(template.getEndDateTime())
+              .setDescription(strings.intern(updatedEvent.getDescription()))
+              .setLocation(updatedEvent.getLocation())
+              .setStatus(updatedEvent.getStatus())
+              .build());
+      instanceTemplateChanged(series);
+
+      if (renamed) {
+        for (Event instance : series.getInstances()) {
+          if (series.sharesTemplate(instance)) {
+            indexKey(instance);
           }
         }
       }
     }
 
+    if ((startShift == 0 && endShift == 0)
+            && (template == null || !series.allInstancesShareTemplate())) {
+      for (Event instance : new ArrayList<>(series.getInstances())) {
+        if (!series.sharesTemplate(instance)) {
+          Event newInstance = buildReplacementFrom(instance, updatedEvent);
+          eventReplacement(instance, newInstance);
+          replaceSeriesInstance(series, instance, newInstance);
+        }
+      }
+    }
+
+    renameSeries(series, newSubject);
+  }
+
+  private void renameSeries(EventSeries series, String newSubject) {
+    String oldSubject = series.getSeriesSubject();
     if (!oldSubject.equals(newSubject)) {
-      mapSeries.remove(oldSubject);
+      if (mapSeries.remove(oldSubject, series)) {
+        seriesSubjects.remove(oldSubject);
+      }
       series.setSubject(newSubject);
       mapSeries.put(newSubject, series);
+      seriesSubjects.add(newSubject);
     }
   }
 
-  private void editAllEventsInSeries(EventSeries series,
-                                     EventInterface updatedEvent) {
-    String oldSubject = series.getSubject();
-    String newSubject = updatedEvent.getSubject();
+  private long startShiftOf(Event targetEvent, EventInterface updatedEvent) {
+    return Duration.between(targetEvent.getStartDateTime(),
+            updatedEvent.getStartDateTime()).getSeconds();
+  }
+
+  private long endShiftOf(Event targetEvent, EventInterface updatedEvent) {
+    if (targetEvent.getEndDateTime() == null || updatedEvent.getEndDateTime() == null) {
+      return 0;
+    }
+    return Duration.between(targetEvent.getEndDateTime(),
+            updatedEvent.getEndDateTime()).getSeconds();
+  }
 
+  private List<Event> shiftedInstances(List<Event> instances,
+                                       EventInterface updatedEvent,
+                                       long startShift,
+                                       long endShift) {
+    List<Event> shifted = new ArrayList<>(instances.size());
+    for (Event instance : instances) {
+      Event moved = buildShifted(instance, updatedEvent, startShift, endShift);
+      if ((startShift != 0 || endShift != 0) && moved.getEndDateTime() != null
+              && !moved.getEndDateTime().isAfter(moved.getStartDateTime())) {
+        throw new IllegalArgumentException("End time can not be before or on start time"
+                + " for the instance at " + instance.getStartDateTime() + ".");
+      }
+      shifted.add(moved);
+    }
+    return shifted;
+  }
+
+  private Event buildShifted(Event instance,
+                             EventInterface updatedEvent,
+                             long startShift,
+                             long endShift) {
+    return (Event) new Event.CustomEventBuilder()
+            .setSubject(strings.intern(updatedEvent.getSubject()))
+            .setStartDateTime(instance.getStartDateTime().plusSeconds(startShift))
+            .setEndDateTime(instance.getEndDateTime() == null
+                    ? null : instance.getEndDateTime().plusSeconds(endShift))
+            .setDescription(strings.intern(updatedEvent.getDescription()))
+            .setLocation(updatedEvent.getLocation())
+            .setStatus(updatedEvent.getStatus())
+            .build();
+  }
+
+  private void shiftAllEventsInSeries(EventSeries series,
+                                      EventInterface updatedEvent,
+                                      long startShift,
+                                      long endShift) {
     List<Event> instances = new ArrayList<>(series.getInstances());
+    List<Event> shifted = shiftedInstances(instances, updatedEvent, startShift, endShift);
+    Event template = series.getInstanceTemplate();
+    Event shiftedTemplate = template == null
+            ? null : buildShifted(template, updatedEvent, startShift, endShift);
 
     for (Event instance : instances) {
-      Event newInstance = buildReplacementFrom(instance, updatedEvent);
-      eventReplacement(instance, newInstance);
+      unindexEvent(instance);
+    }
+    if (shiftedTemplate != null) {
+      series.setInstanceTemplate(shiftedTemplate);
+    }
 
-      List<Event> seriesInstances = series.getInstances();
-      for (int i = 0; i < seriesInstances.size(); i++) {
-        if (seriesInstances.get(i).equals(instance)) {
-          seriesInstances.set(i, newInstance);
-          break;
-        }
+    for (int i = 0; i < instances.size(); i++) {
+      Event instance = instances.get(i);
+      Event moved = shifted.get(i);
+      if (series.sharesTemplate(instance)) {
+        moved = series.createInstance(moved.getStartDateTime(), moved.getEndDateTime());
       }
-    }
 
-    if (!oldSubject.equals(newSubject)) {
-      mapSeries.remove(oldSubject);
-      series.setSubject(newSubject);
-      mapSeries.put(newSubject, series);
+      indexEvent(moved);
+      replaceSeriesInstance(series, instance, moved);
     }
   }
 
@@ -344,10 +784,10 @@ public class Calendar implements CalendarInterface {
     }
 
     Event.CustomEventBuilder builder = new Event.CustomEventBuilder()
-            .setSubject(template.getSubject())
+            .setSubject(strings.intern(template.getSubject()))
             .setStartDateTime(newStart)
             .setEndDateTime(newEnd)
-            .setDescription(template.getDescription())
+            .setDescription(strings.intern(template.getDescription()))
             .setLocation(template.getLocation())
             .setStatus(template.getStatus());
 
@@ -355,30 +795,230 @@ public class Calendar implements CalendarInterface {
   }
 
   private void eventReplacement(Event oldEvent, EventInterface updatedEvent) {
-    LocalDate originalDate = oldEvent.getStartDateTime().toLocalDate();
-    List<Event> list = eventsByDate.get(originalDate);
-    if (list != null) {
-      list.remove(oldEvent);
+    unindexEvent(oldEvent);
+    indexEvent((Event) updatedEvent);
+  }
+
+  private void indexEvent(Event event) {
+    List<Event> bucket = eventsByDate.computeIfAbsent(
+            event.getStartDateTime().toLocalDate(), d -> new ArrayList<>());
+    bucket.add(bucketPosition(bucket, event.getStartEpochSecond()), event);
+    indexKey(event);
+    if (timeIndexes) {
+      eventTree.insert(event);
+      if (isMultiDay(event)) {
+        multiDayEvents.insert(event);
+      }
+      freeBusy.mark(event);
+    }
+    eventsChangedOn(event.getStartDateTime().toLocalDate());
+  }
+
+  private void unindexEvent(Event event) {
+    List<Event> bucket = eventsByDate.get(event.getStartDateTime().toLocalDate());
+    if (bucket != null) {
+      int position = bucketPosition(bucket, event.getStartEpochSecond() - 1);
+      while (position < bucket.size() && bucket.get(position) != event) {
+        position++;
+      }
+      if (position < bucket.size()) {
+        bucket.remove(position);
+      }
+    }
+    unindexKey(event);
+    if (timeIndexes) {
+      eventTree.remove(event);
+      if (isMultiDay(event)) {
+        multiDayEvents.remove(event);
+      }
+      freeBusy.release(event);
+    }
+    eventsChangedOn(event.getStartDateTime().toLocalDate());
+  }
+
+  /**
+   * Called after an event starting on the given date was added to or removed
+   * from the calendar, so that subclasses can keep their own views up to date.
+   *
+   * @param date the date whose events changed.
+   */
+  void eventsChangedOn(LocalDate date) {
+  }
+
+  /**
+   * Called after the template shared by the instances of a series was swapped,
+   * which changes the details of those instances without reindexing them.
+   *
+   * @param series the series whose template changed.
+   */
+  void instanceTemplateChanged(EventSeries series) {
+  }
+
+  /**
+   * Gets the events an edit of the event with the given subject and start would
+   * change, which are every instance of the series for edits to the future or all
+   * instances of a series, and the event itself otherwise.
+   *
+   * @param subject the subject of the event to be edited.
+   * @param start   the start of the event to be edited.
+   * @param mode    the mode of the edit.
+   * @return the events the edit would change, or an empty list if the event does
+   *         not exist.
+   */
+  List<Event> eventsAffectedByEdit(String subject, LocalDateTime start, EditMode mode) {
+    if (subject == null || start == null) {
+      return Collections.emptyList();
+    }
+
+    Event targetEvent = findEventInSeries(subject, start);
+    if (targetEvent == null) {
+      targetEvent = findEventInDate(subject, start);
+    }
+    if (targetEvent == null) {
+      return Collections.emptyList();
+    }
+
+    EventSeries series = findParentSeries(subject, start, targetEvent);
+    if (series == null || mode == EditMode.SINGLE) {
+      return Collections.singletonList(targetEvent);
+    }
+    return new ArrayList<>(series.getInstances());
+  }
+
+  /**
+   * Adds an event to the calendar as it is, used by calendars made of several
+   * calendars to move an event that was edited into another one of them.
+   *
+   * @param event the event to be added.
+   */
+  void addEvent(Event event) {
+    indexEvent(event);
+  }
+
+  /**
+   * Removes an event that does not belong to a series from the calendar, used by
+   * calendars made of several calendars to move an event out of this one.
+   *
+   * @param event the event to be removed.
+   */
+  void removeEvent(Event event) {
+    unindexEvent(event);
+  }
+
+  /**
+   * Gets the events starting on the given date, sorted by their start.
+   *
+   * @param date the date to be looked up.
+   * @return an unmodifiable view of the events starting on the date.
+   */
+  List<Event> eventsStartingOn(LocalDate date) {
+    return Collections.unmodifiableList(eventsByDate.getOrDefault(date, Collections.emptyList()));
+  }
+
+  /**
+   * Copies the given events, replacing every series instance with an event that
+   * holds the details the instance reads from the template of its series, so the
+   * copies keep those details after the lock guarding the template is released.
+   *
+   * @param events the events to be copied.
+   * @return a list of events that no longer read a template.
+   */
+  static List<Event> frozen(List<Event> events) {
+    List<Event> copies = new ArrayList<>(events.size());
+    for (Event e : events) {
+      copies.add(frozen(e));
+    }
+    return copies;
+  }
+
+  /**
+   * Copies a series instance into an event holding the details the instance reads
+   * from the template of its series, returning any other event as it is.
+   *
+   * @param event the event to be copied.
+   * @return an event that does not read a template.
+   */
+  static Event frozen(Event event) {
+    if (!(event instanceof SeriesInstance)) {
+      return event;
+    }
+    return (Event) new Event.CustomEventBuilder()
+            .setSubject(event.getSubject())
+            .setStartDateTime(event.getStartDateTime())
+            .setEndDateTime(event.getEndDateTime())
+            .setDescription(event.getDescription())
+            .setLocation(event.getLocation())
+            .setStatus(event.getStatus())
+            .build();
+  }
+
+  private void indexKey(Event event) {
+    eventsByKey.computeIfAbsent(keyOf(event), k -> new ArrayList<>(1)).add(event);
+  }
+
+  private void unindexKey(Event event) {
+    EventKey key = keyOf(event);
+    List<Event> sameKey = eventsByKey.get(key);
+    if (sameKey != null) {
+      sameKey.remove(event);
+      if (sameKey.isEmpty()) {
+        eventsByKey.remove(key);
+      }
+    }
+  }
+
+  private EventKey keyOf(Event event) {
+    return new EventKey(strings.encode(event.getSubject()), event.getStartEpochSecond());
+  }
+
+  private List<Event> eventsWithKey(String subject, LocalDateTime start) {
+    int subjectId = strings.lookup(subject);
+    if (subjectId == StringDictionary.NULL_ID || start.getNano() != 0) {
+      return Collections.emptyList();
+    }
+    return eventsByKey.getOrDefault(new EventKey(subjectId, start.toEpochSecond(ZoneOffset.UTC)),
+            Collections.emptyList());
+  }
+
+  private int bucketPosition(List<Event> bucket, long start) {
+    int low = 0;
+    int high = bucket.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (bucket.get(mid).getStartEpochSecond() > start) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
     }
+    return low;
+  }
 
-    LocalDate newDate = updatedEvent.getStartDateTime().toLocalDate();
-    eventsByDate.computeIfAbsent(newDate, d -> new ArrayList<>()).add((Event) updatedEvent);
+  private boolean isMultiDay(Event event) {
+    return Math.floorDiv(event.getEndEpochSecond(), SECONDS_PER_DAY)
+            > Math.floorDiv(event.getStartEpochSecond(), SECONDS_PER_DAY);
+  }
+
+  private static long windowStart(LocalDateTime start) {
+    long second = start.toEpochSecond(ZoneOffset.UTC);
+    return start.getNano() == 0 ? second : second + 1;
+  }
+
+  private static long windowEnd(LocalDateTime end) {
+    return end.toEpochSecond(ZoneOffset.UTC);
   }
 
   @Override
   public EventInterface getEvent(String subject,
                                  LocalDateTime start,
                                  LocalDateTime end) throws IllegalArgumentException {
-    LocalDate date = start.toLocalDate();
-    List<Event> events = eventsByDate.getOrDefault(date, Collections.emptyList());
+    List<Event> events = eventsWithKey(subject, start);
     boolean found = false;
     EventInterface returnEvent = null;
 
     for (Event e : events) {
-      if (e.getSubject().equals(subject)
-              && e.getStartDateTime().equals(start)
-              && ((end == null)
-              || (e.getEndDateTime() != null && e.getEndDateTime().equals(end)))) {
+      if ((end == null)
+              || (e.getEndDateTime() != null && e.getEndDateTime().equals(end))) {
         if (found) {
           throw new IllegalArgumentException("Multiple Events with the same Start and Subject");
         } else {
@@ -387,56 +1027,98 @@ public class Calendar implements CalendarInterface {
         }
       }
     }
+
+    Event occurrence = findLazyOccurrence(subject, start);
+    if (occurrence != null && (end == null || occurrence.getEndDateTime().equals(end))) {
+      if (found) {
+        throw new IllegalArgumentException("Multiple Events with the same Start and Subject");
+      }
+      returnEvent = occurrence;
+    }
     return returnEvent;
   }
 
   @Override
   public List<Event> getEventsSingleDay(LocalDate date) {
     List<Event> filteredEvents = new ArrayList<>();
-    List<Event> allEvents = new ArrayList<>();
 
-    for (List<Event> events : eventsByDate.values()) {
-      allEvents.addAll(events);
-    }
-
-    for (Event e : allEvents) {
-      LocalDateTime eventStart = e.getStartDateTime();
-      LocalDateTime eventEnd = e.getEndDateTime();
-
-      if (eventStart.toLocalDate().equals(date) || eventEnd.toLocalDate().equals(date)
-              || (eventStart.toLocalDate().isBefore(date)
-              && eventEnd.toLocalDate().isAfter(date))) {
+    long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+    for (Event e : multiDayEvents.query(dayStart, dayStart + SECONDS_PER_DAY - 1)) {
+      if (e.getStartEpochSecond() < dayStart) {
         filteredEvents.add(e);
       }
     }
+    filteredEvents.addAll(eventsByDate.getOrDefault(date, Collections.emptyList()));
 
-    return filteredEvents;
+    return withLazyOccurrences(filteredEvents, date.atStartOfDay(), date.atTime(LocalTime.MAX));
   }
 
   @Override
-  public List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end) {
+  public List<Event> getEventsStartingBetween(LocalDate startDate, LocalDate endDate) {
     List<Event> filteredEvents = new ArrayList<>();
-    List<Event> allEvents = new ArrayList<>();
+    if (startDate.isAfter(endDate)) {
+      return filteredEvents;
+    }
 
-    for (List<Event> events : eventsByDate.values()) {
-      allEvents.addAll(events);
+    for (List<Event> events : eventsByDate.subMap(startDate, true, endDate, true).values()) {
+      filteredEvents.addAll(events);
     }
 
-    for (Event e : allEvents) {
-      LocalDateTime eventStart = e.getStartDateTime();
-      LocalDateTime eventEnd = e.getEndDateTime();
+    List<Event> allEvents = withLazyOccurrences(
+            filteredEvents, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+    allEvents.removeIf(e -> e.getStartDateTime().toLocalDate().isBefore(startDate));
+    return allEvents;
+  }
 
-      if (((eventStart.isAfter(start) || eventStart.isEqual(start))
-              && (eventStart.isBefore(end) || eventStart.isEqual(end)))
-              || ((eventEnd.isAfter(start) || eventEnd.isEqual(start))
-              && (eventEnd.isBefore(end) || eventEnd.isEqual(end)))
-              || ((eventStart.isBefore(start) || eventStart.isEqual(start))
-              && (eventEnd.isAfter(end) || eventEnd.isEqual(end)))) {
-        filteredEvents.add(e);
+  @Override
+  public List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end) {
+    return withLazyOccurrences(eventTree.query(windowStart(start), windowEnd(end)), start, end);
+  }
+
+  @Override
+  public boolean isBusy(LocalDateTime dateTime) {
+    if (freeBusy.isBusy(dateTime)) {
+      return true;
+    }
+
+    LocalDateTime minute = dateTime.truncatedTo(ChronoUnit.MINUTES);
+    for (EventSeries series : lazySeriesOverlapping(minute, minute)) {
+      if (!series.getOccurrences(minute, minute).isEmpty()) {
+        return true;
       }
     }
+    return false;
+  }
+
+  @Override
+  public LocalDateTime findFreeSlot(LocalDateTime start, LocalDateTime end, Duration length) {
+    if (length == null || length.isNegative() || length.isZero()) {
+      throw new IllegalArgumentException("Slot length must be positive!");
+    }
 
-    return filteredEvents;
+    LocalDateTime cursor = start;
+    while (true) {
+      LocalDateTime slot = freeBusy.findFreeSlot(cursor, end, length);
+      if (slot == null || spanOfLazySeries.isEmpty()) {
+        return slot;
+      }
+
+      LocalDateTime slotLast = slot.plus(length);
+      LocalDateTime conflictEnd = null;
+      for (EventSeries series : lazySeriesOverlapping(slot, slotLast)) {
+        for (Event occurrence : series.getOccurrences(slot, slotLast)) {
+          LocalDateTime occurrenceEnd = occurrence.getEndDateTime().truncatedTo(ChronoUnit.MINUTES);
+          if (conflictEnd == null || occurrenceEnd.isAfter(conflictEnd)) {
+            conflictEnd = occurrenceEnd;
+          }
+        }
+      }
+
+      if (conflictEnd == null) {
+        return slot;
+      }
+      cursor = conflictEnd.plusMinutes(1);
+    }
   }
 
   private void baseExceptions(String subject,
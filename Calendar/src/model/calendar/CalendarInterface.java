@@ -1,6 +1,7 @@
 package model.calendar;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -69,6 +70,20 @@ public interface CalendarInterface {
                                 Status status
   ) throws IllegalArgumentException;
 
+  /**
+   * Creates a batch of recurring event series, validating every series of the
+   * batch against the existing series and each other before any of them are
+   * created. The subject, start time, end time of the first event, repeat days,
+   * occurrences, description, location and status of each series are taken
+   * from the given series.
+   *
+   * @param batch the series describing the event series to be created.
+   * @return a list of the event series created, in the order of the batch.
+   * @throws IllegalArgumentException if any series of the batch could not be created,
+   *                                  in which case none of them are created.
+   */
+  List<EventSeries> createEventSeries(List<EventSeries> batch) throws IllegalArgumentException;
+
   /**
    * Edits a single event, part of an event series, or the event series and applies
    * modifications whether it's an independent event or part of a series based on
@@ -98,20 +113,55 @@ public interface CalendarInterface {
                           LocalDateTime end) throws IllegalArgumentException;
 
   /**
-   * Returns the events of a single day as a list for retrieval.
+   * Returns the events of a single day as a list for retrieval, ordered by
+   * their start time.
    *
    * @param date the date given for the retrieval.
    * @return a list of events for the given day.
    */
   List<Event> getEventsSingleDay(LocalDate date);
 
+  /**
+   * Returns the events that start between the two given dates, inclusive, as a
+   * list ordered by their start time.
+   *
+   * @param startDate the first date of the range.
+   * @param endDate   the last date of the range.
+   * @return a list of events starting within the range of dates.
+   */
+  List<Event> getEventsStartingBetween(LocalDate startDate, LocalDate endDate);
+
   /**
    * Returns the events of a given time window based on the start and end times
-   * as a list for retrieval.
+   * as a list for retrieval, ordered by their start time.
    *
    * @param start the starting time for the time window.
    * @param end   the ending time for the time window.
    * @return a list of events given through the time window.
    */
   List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end);
+
+  /**
+   * Determines whether any event occupies the minute of the given date time.
+   *
+   * @param dateTime the date time to be checked.
+   * @return a boolean based on whether the calendar is busy at that time.
+   */
+  boolean isBusy(LocalDateTime dateTime);
+
+  /**
+   * Finds the earliest slot of free minutes of the given length between the
+   * start and end times. Like an event, a slot covers every minute from its start
+   * up to and including its end, so it may not touch the end minute of an earlier
+   * event or the start minute of a later one.
+   *
+   * @param start  the earliest time the slot may begin.
+   * @param end    the latest time the slot may finish.
+   * @param length the length of the slot to be found.
+   * @return the start time of the slot, or null if there is no such slot.
+   * @throws IllegalArgumentException if the length is not positive.
+   */
+  LocalDateTime findFreeSlot(LocalDateTime start,
+                             LocalDateTime end,
+                             Duration length) throws IllegalArgumentException;
 }
@@ -2,9 +2,12 @@ package model.calendar;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import model.event.EventInterface;
 
@@ -12,9 +15,18 @@ import model.event.EventInterface;
  * A class that represents calendar management that will be able to perform
  * operations based on a collection of calendars. The management allows for
  * creation, selection, and editing of calendars.
+ *
+ * <p>The calendars are kept in a registry that is replaced as a whole whenever a
+ * calendar is created or edited, so readers never lock and a renamed calendar is
+ * seen under either its old or its new name but never both. In concurrent mode
+ * the calendars are created as calendars guarded by a read/write lock, so that a
+ * single management can be shared between threads. Each thread or client then
+ * works through its own session, which shares the calendars but keeps its own
+ * selected calendar.
  */
 public class CalendarManagement {
-  private final Map<String, CalendarModel> calendarModels;
+  private final AtomicReference<Registry> registry;
+  private final boolean concurrent;
   private Calendar selectedCalendar;
 
 
@@ -23,10 +35,35 @@ public class CalendarManagement {
    * the currently selected calendar to null, ready for selection.
    */
   public CalendarManagement() {
-    this.calendarModels = new HashMap<>();
+    this(false);
+  }
+
+  /**
+   * A constructor that uses an empty map that store calendar models and sets
+   * the currently selected calendar to null, ready for selection.
+   *
+   * @param concurrent whether the management is shared between threads.
+   */
+  public CalendarManagement(boolean concurrent) {
+    this(new AtomicReference<>(Registry.EMPTY), concurrent);
+  }
+
+  private CalendarManagement(AtomicReference<Registry> registry, boolean concurrent) {
+    this.registry = registry;
+    this.concurrent = concurrent;
     this.selectedCalendar = null;
   }
 
+  /**
+   * Opens a session that shares the calendars of this management but has its own
+   * selected calendar, starting with no calendar selected.
+   *
+   * @return a calendar management for the session.
+   */
+  public CalendarManagement openSession() {
+    return new CalendarManagement(registry, concurrent);
+  }
+
   /**
    * A getter for the selected calendar.
    *
@@ -36,6 +73,17 @@ public class CalendarManagement {
     return selectedCalendar;
   }
 
+  /**
+   * A getter for a calendar by its name.
+   *
+   * @param calendarName the name of the calendar.
+   * @return the calendar with the name, or null if there is no such calendar.
+   */
+  public Calendar getCalendar(String calendarName) {
+    CalendarModel calendarModel = registry.get().byName.get(calendarName);
+    return calendarModel == null ? null : calendarModel.getCalendar();
+  }
+
   /**
    * A getter for the calendar's time zone.
    *
@@ -43,15 +91,10 @@ public class CalendarManagement {
    * @return a zone id for the calendar's time zone.
    */
   public ZoneId getCalendarTimezone(String calendarName) {
-
-    for (CalendarModel calendarModel : calendarModels.values()) {
-      if (calendarName == null && this.selectedCalendar.equals(calendarModel.getCalendar())) {
-        return calendarModel.getTimeZone();
-      } else if (calendarModel.getName().equals(calendarName)) {
-        return calendarModel.getTimeZone();
-      }
-    }
-    return null;
+    CalendarModel calendarModel = calendarName == null
+            ? registry.get().byCalendar.get(selectedCalendar)
+            : registry.get().byName.get(calendarName);
+    return calendarModel == null ? null : calendarModel.getTimeZone();
   }
 
   /**
@@ -62,25 +105,24 @@ public class CalendarManagement {
    * @param timeZone     the time zone for the respective calendar.
    */
   public void createCalendar(String calendarName, ZoneId timeZone) {
-
-    for (CalendarModel c : this.calendarModels.values()) {
-      if (c.getName().equals(calendarName)) {
+    synchronized (registry) {
+      if (registry.get().byName.containsKey(calendarName)) {
         throw new IllegalArgumentException(
                 "There already exists a calendar with the name "
                         + calendarName
         );
       }
-    }
 
-    Calendar tempCalendar = new Calendar();
+      Calendar tempCalendar = concurrent ? new LockedCalendar() : new Calendar();
 
-    CalendarModel newCalendar = new CalendarModel.CustomCalendarBuilder()
-            .setName(calendarName)
-            .setTimeZone(timeZone)
-            .setCalendar(tempCalendar)
-            .build();
+      CalendarModel newCalendar = new CalendarModel.CustomCalendarBuilder()
+              .setName(calendarName)
+              .setTimeZone(timeZone)
+              .setCalendar(tempCalendar)
+              .build();
 
-    calendarModels.put(calendarName, newCalendar);
+      registry.set(registry.get().with(null, newCalendar));
+    }
   }
 
 
@@ -91,22 +133,16 @@ public class CalendarManagement {
    * @param calendarName the name of the calendar to be selected.
    */
   public void selectCalendar(String calendarName) throws IllegalArgumentException {
-    boolean found = false;
+    CalendarModel c = registry.get().byName.get(calendarName);
 
-    for (CalendarModel c : this.calendarModels.values()) {
-      if (c.getName().equals(calendarName)) {
-        this.selectedCalendar = c.getCalendar();
-        found = true;
-        break;
-      }
-    }
-
-    if (!found) {
+    if (c == null) {
       throw new IllegalArgumentException(
               "There does not exist a calendar with the name "
                       + calendarName
       );
     }
+
+    this.selectedCalendar = c.getCalendar();
   }
 
   /**
@@ -122,67 +158,43 @@ public class CalendarManagement {
           String property, String newValue
   ) throws IllegalArgumentException {
 
-    CalendarModel calenderToUpdate = null;
-    boolean found = false;
-    CalendarModel newCalendar;
+    synchronized (registry) {
+      CalendarModel calenderToUpdate;
+      CalendarModel newCalendar;
 
-    switch (property) {
-      case "name":
-        for (CalendarModel c : this.calendarModels.values()) {
-          if (c.getName().equals(newValue)) {
+      switch (property) {
+        case "name":
+          if (registry.get().byName.containsKey(newValue)) {
             throw new IllegalArgumentException(
                     "There already exists a calendar with the name "
                             + newValue
             );
-          } else if (c.getName().equals(calendarName)) {
-            found = true;
-            calenderToUpdate = c;
           }
-        }
-
-        if (!found) {
-          throw new IllegalArgumentException(
-                  "There does not exist a calendar with the name "
-                          + calendarName
-          );
-        }
-
-        newCalendar = new CalendarModel.CustomCalendarBuilder()
-                .setName(newValue)
-                .setTimeZone(calenderToUpdate.getTimeZone())
-                .setCalendar(calenderToUpdate.getCalendar())
-                .build();
-
-        calendarModels.remove(calendarName);
-        calendarModels.put(newValue, newCalendar);
-        break;
-      case "timezone":
-        for (CalendarModel c : this.calendarModels.values()) {
-          if (c.getName().equals(calendarName)) {
-            found = true;
-            calenderToUpdate = c;
-          }
-        }
-
-        if (!found) {
-          throw new IllegalArgumentException(
-                  "There does not exist a calendar with the name "
-                          + calendarName
-          );
-        }
-
-        calendarModels.remove(calendarName);
-
-        newCalendar = new CalendarModel.CustomCalendarBuilder()
-                .setName(calendarName)
-                .setTimeZone(ZoneId.of(newValue))
-                .setCalendar(calenderToUpdate.getCalendar())
-                .build();
-
-        calendarModels.put(calendarName, newCalendar);
-        break;
-      default:
-        throw new IllegalArgumentException("Invalid property " + property);
+
+          calenderToUpdate = findCalendarModel(calendarName);
+
+          newCalendar = new CalendarModel.CustomCalendarBuilder()
+                  .setName(newValue)
+                  .setTimeZone(calenderToUpdate.getTimeZone())
+                  .setCalendar(calenderToUpdate.getCalendar())
+                  .build();
+
+          registry.set(registry.get().with(calendarName, newCalendar));
+          break;
+        case "timezone":
+          calenderToUpdate = findCalendarModel(calendarName);
+
+          newCalendar = new CalendarModel.CustomCalendarBuilder()
+                  .setName(calendarName)
+                  .setTimeZone(ZoneId.of(newValue))
+                  .setCalendar(calenderToUpdate.getCalendar())
+                  .build();
+
+          registry.set(registry.get().with(calendarName, newCalendar));
+          break;
+        default:
+          throw new IllegalArgumentException("Invalid property " + property);
+      }
     }
 
   }
@@ -195,15 +207,14 @@ public class CalendarManagement {
    * @param targetDate     the local date time of the target date.
    */
   public void copyEvent(EventInterface event, String targetCalendar, LocalDateTime targetDate) {
-    for (CalendarModel c : this.calendarModels.values()) {
-      if (c.getName().equals(targetCalendar)) {
-        c.getCalendar().createEvent(event.getSubject(),
-                targetDate,
-                targetDate.toLocalDate().atTime(event.getEndDateTime().toLocalTime()),
-                event.getDescription(),
-                event.getLocation(),
-                event.getStatus());
-      }
+    CalendarModel c = registry.get().byName.get(targetCalendar);
+    if (c != null) {
+      c.getCalendar().createEvent(event.getSubject(),
+              targetDate,
+              targetDate.toLocalDate().atTime(event.getEndDateTime().toLocalTime()),
+              event.getDescription(),
+              event.getLocation(),
+              event.getStatus());
     }
   }
 
@@ -214,18 +225,56 @@ public class CalendarManagement {
    * @param targetCalendar the target calendar where it will be copied.
    */
   public void copyEvents(List<EventInterface> events, String targetCalendar) {
-    for (CalendarModel c : this.calendarModels.values()) {
-      if (c.getName().equals(targetCalendar)) {
-        for (EventInterface e : events) {
-          c.getCalendar().createEvent(e.getSubject(),
-                  e.getStartDateTime(),
-                  e.getEndDateTime(),
-                  e.getDescription(),
-                  e.getLocation(),
-                  e.getStatus());
-        }
+    CalendarModel c = registry.get().byName.get(targetCalendar);
+    if (c != null) {
+      for (EventInterface e : events) {
+        c.getCalendar().createEvent(e.getSubject(),
+                e.getStartDateTime(),
+                e.getEndDateTime(),
+                e.getDescription(),
+                e.getLocation(),
+                e.getStatus());
       }
     }
+  }
+
+  private CalendarModel findCalendarModel(String calendarName) throws IllegalArgumentException {
+    CalendarModel c = registry.get().byName.get(calendarName);
+    if (c == null) {
+      throw new IllegalArgumentException(
+              "There does not exist a calendar with the name "
+                      + calendarName
+      );
+    }
+    return c;
+  }
 
+  /**
+   * The calendars of a management by name and by calendar. A registry is never
+   * changed once it is shared, and every change builds a new one.
+   */
+  private static final class Registry {
+    private static final Registry EMPTY =
+            new Registry(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<String, CalendarModel> byName;
+    private final Map<Calendar, CalendarModel> byCalendar;
+
+    private Registry(Map<String, CalendarModel> byName,
+                     Map<Calendar, CalendarModel> byCalendar) {
+      this.byName = byName;
+      this.byCalendar = byCalendar;
+    }
+
+    private Registry with(String oldName, CalendarModel calendarModel) {
+      Map<String, CalendarModel> names = new HashMap<>(byName);
+      Map<Calendar, CalendarModel> calendars = new IdentityHashMap<>(byCalendar);
+      if (oldName != null) {
+        names.remove(oldName);
+      }
+      names.put(calendarModel.getName(), calendarModel);
+      calendars.put(calendarModel.getCalendar(), calendarModel);
+      return new Registry(names, calendars);
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,609 @@
+package model.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import model.enums.EditMode;
+import model.enums.Location;
+import model.enums.Status;
+import model.event.Event;
+import model.event.EventInterface;
+import model.event.EventSeries;
+
+/**
+ * A calendar that stores its events column by column in parallel primitive
+ * arrays instead of one object per event, meant for calendars holding millions
+ * of events. Every event is a row made of its start and end in epoch seconds,
+ * the dictionary ids of its subject and description, and the ordinals of its
+ * location and status. The rows starting on each day are kept as an array of
+ * row numbers sorted by start, so window queries are sequential passes over the
+ * start and end columns of the days within the window. The rows spanning midnight
+ * are also kept by day in a separate index, which is the only one read for the
+ * days before the window. Events are only built as objects when they are returned.
+ *
+ * <p>Rows are never removed since events can only be created or edited, and an
+ * edit overwrites the row of the event in place. The series returned when
+ * creating an event series is a snapshot of its instances at creation time.
+ */
+public class ColumnarCalendar implements CalendarInterface {
+  private static final long NO_END = Long.MIN_VALUE;
+  private static final int NO_ROW = -1;
+  private static final int NO_SERIES = -1;
+  private static final byte NO_ORDINAL = -1;
+  private static final long SECONDS_PER_DAY = 86400;
+  private static final Location[] LOCATIONS = Location.values();
+  private static final Status[] STATUSES = Status.values();
+
+  private final StringDictionary strings = new StringDictionary();
+  private long[] starts = new long[16];
+  private long[] ends = new long[16];
+  private int[] subjectIds = new int[16];
+  private int[] descriptionIds = new int[16];
+  private byte[] locations = new byte[16];
+  private byte[] statuses = new byte[16];
+  private int[] seriesIds = new int[16];
+  private int[] nextWithKey = new int[16];
+  private int size;
+
+  private final NavigableMap<Long, DayRows> rowsByDay = new TreeMap<>();
+  private final NavigableMap<Long, DayRows> multiDayRowsByDay = new TreeMap<>();
+  private final NavigableMap<Long, Integer> multiDayDurations = new TreeMap<>();
+  private final Map<EventKey, Integer> firstRowByKey = new HashMap<>();
+  private final List<int[]> seriesRows = new ArrayList<>();
+  private final List<String> seriesNames = new ArrayList<>();
+  private final Map<String, Integer> seriesBySubject = new HashMap<>();
+  private final Set<String> seriesSubjects = new HashSet<>();
+  private final Set<LocalDateTime> seriesStarts = new HashSet<>();
+
+  @Override
+  public Event createEvent(String subject,
+                           LocalDateTime start,
+                           LocalDateTime end,
+                           String description,
+                           Location location,
+                           Status status)
+          throws IllegalArgumentException {
+    baseExceptions(subject, start);
+
+    if (end == null) {
+      start = start.toLocalDate().atTime(8, 0);
+      end = start.toLocalDate().atTime(17, 0);
+    }
+
+    if (end.isBefore(start) || end.isEqual(start)) {
+      throw new IllegalArgumentException("End time can not be before or on start time.");
+    }
+
+    long startSecond = toSecond(start);
+    long endSecond = toSecond(end);
+    for (int row = firstRow(strings.lookup(subject), startSecond); row != NO_ROW;
+         row = nextWithKey[row]) {
+      if (ends[row] == endSecond) {
+        throw new IllegalArgumentException(
+                "An event with the same subject, start, and end time already exists."
+        );
+      }
+    }
+
+    int row = appendRow(strings.encode(subject), startSecond, endSecond,
+            strings.encode(description), location, status, NO_SERIES);
+    return eventAt(row);
+  }
+
+  @Override
+  public EventSeries createEventSeries(String subject,
+                                       LocalDateTime start,
+                                       LocalDateTime end,
+                                       List<DayOfWeek> repeatDays,
+                                       Integer occurrences,
+                                       String description,
+                                       Location location,
+                                       Status status) {
+    validateSeries(subject, start, end, repeatDays);
+
+    if (end == null) {
+      start = start.toLocalDate().atTime(8, 0);
+      end = start.toLocalDate().atTime(17, 0);
+    }
+
+    EventSeries series = new EventSeries(subject, start);
+    series.setRepeatDays(repeatDays);
+    series.setOccurrences(occurrences);
+    series.setEndDateTimeOfSeries(end);
+
+    int seriesId = seriesRows.size();
+    int subjectId = strings.encode(subject);
+    int descriptionId = strings.encode(description);
+    long duration = toSecond(end) - toSecond(start);
+    LocalDate lastDate = occurrences != null && occurrences > 0 ? null : end.toLocalDate();
+
+    int[] rows = new int[0];
+    int count = 0;
+    for (LocalDate date = start.toLocalDate();
+         (occurrences == null || count < occurrences)
+                 && (lastDate == null || !date.isAfter(lastDate));
+         date = date.plusDays(1)) {
+      if (repeatDays.contains(date.getDayOfWeek())) {
+        long instanceStart = toSecond(date.atTime(start.toLocalTime()));
+        int row = appendRow(subjectId, instanceStart, instanceStart + duration,
+                descriptionId, location, status, seriesId);
+
+        if (count == rows.length) {
+          rows = Arrays.copyOf(rows, Math.max(4, count * 2));
+        }
+        rows[count++] = row;
+        series.addInstance(eventAt(row));
+      }
+    }
+
+    seriesRows.add(Arrays.copyOf(rows, count));
+    seriesNames.add(subject);
+    seriesBySubject.put(subject, seriesId);
+    seriesSubjects.add(subject);
+    seriesStarts.add(series.getStartDateTime());
+    return series;
+  }
+
+  @Override
+  public List<EventSeries> createEventSeries(List<EventSeries> batch)
+          throws IllegalArgumentException {
+    Set<String> batchSubjects = new HashSet<>();
+    Set<LocalDateTime> batchStarts = new HashSet<>();
+
+    for (EventSeries spec : batch) {
+      String subject = spec.getSubject();
+      LocalDateTime start = spec.getStartDateTime();
+      validateSeries(subject, start, spec.endDateTimeOfSeries, spec.repeatDays);
+
+      if (!batchSubjects.add(subject) || !batchStarts.add(start)) {
+        throw new IllegalArgumentException(
+                "Subject and start time cannot be the same as another series in the batch!"
+        );
+      }
+    }
+
+    List<EventSeries> created = new ArrayList<>(batch.size());
+    for (EventSeries spec : batch) {
+      created.add(createEventSeries(spec.getSubject(),
+              spec.getStartDateTime(),
+              spec.endDateTimeOfSeries,
+              spec.repeatDays,
+              spec.occurrences,
+              spec.getDescription(),
+              spec.getLocation(),
+              spec.getStatus()));
+    }
+    return created;
+  }
+
+  @Override
+  public void editEvent(String subject,
+                        LocalDateTime start,
+                        EventInterface updatedEvent,
+                        EditMode mode) {
+    baseExceptions(subject, start);
+    if (updatedEvent == null) {
+      throw new IllegalArgumentException("Updated event cannot be null!");
+    }
+    if (updatedEvent.getEndDateTime() != null
+            && updatedEvent.getEndDateTime().isBefore(updatedEvent.getStartDateTime())) {
+      throw new IllegalArgumentException("End time can not be before start time.");
+    }
+
+    int first = firstRow(strings.lookup(subject), toSecond(start));
+    int target = first;
+    for (int row = first; row != NO_ROW; row = nextWithKey[row]) {
+      if (seriesIds[row] != NO_SERIES && seriesNames.get(seriesIds[row]).equals(subject)) {
+        target = row;
+        break;
+      }
+    }
+    if (target == NO_ROW) {
+      throw new IllegalArgumentException("Event not found: " + subject + " at " + start);
+    }
+
+    int seriesId = seriesIds[target];
+    if (seriesId == NO_SERIES || !seriesNames.get(seriesId).equals(subject)
+            || mode == EditMode.SINGLE) {
+      overwriteRow(target, strings.encode(updatedEvent.getSubject()),
+              toSecond(updatedEvent.getStartDateTime()), endOf(updatedEvent),
+              strings.encode(updatedEvent.getDescription()),
+              updatedEvent.getLocation(), updatedEvent.getStatus());
+      return;
+    }
+
+    long startShift = toSecond(updatedEvent.getStartDateTime()) - starts[target];
+    long endShift = ends[target] == NO_END || updatedEvent.getEndDateTime() == null
+            ? 0 : endOf(updatedEvent) - ends[target];
+    long targetStart = starts[target];
+    int[] rows = seriesRows.get(seriesId);
+    int[] edited = mode == EditMode.ALL
+            ? rows : Arrays.stream(rows).filter(row -> starts[row] >= targetStart).toArray();
+    validateShiftedRows(edited, startShift, endShift);
+
+    String newSubject = updatedEvent.getSubject();
+    if (edited.length < rows.length) {
+      int futureId = seriesRows.size();
+      seriesRows.set(seriesId,
+              Arrays.stream(rows).filter(row -> starts[row] < targetStart).toArray());
+      seriesRows.add(edited);
+      seriesNames.add(newSubject);
+      for (int row : edited) {
+        seriesIds[row] = futureId;
+      }
+      // the rows before the edit keep the series under its subject
+      if (seriesBySubject.putIfAbsent(newSubject, futureId) == null) {
+        seriesSubjects.add(newSubject);
+      }
+    } else if (!subject.equals(newSubject)) {
+      if (seriesBySubject.remove(subject, seriesId)) {
+        seriesSubjects.remove(subject);
+      }
+      seriesNames.set(seriesId, newSubject);
+      seriesBySubject.put(newSubject, seriesId);
+      seriesSubjects.add(newSubject);
+    }
+
+    int subjectId = strings.encode(newSubject);
+    int descriptionId = strings.encode(updatedEvent.getDescription());
+    for (int row : edited) {
+      overwriteRow(row, subjectId, starts[row] + startShift,
+              ends[row] == NO_END ? NO_END : ends[row] + endShift, descriptionId,
+              updatedEvent.getLocation(), updatedEvent.getStatus());
+    }
+  }
+
+  private void validateShiftedRows(int[] rows, long startShift, long endShift) {
+    if (startShift == 0 && endShift == 0) {
+      return;
+    }
+    for (int row : rows) {
+      if (ends[row] != NO_END && ends[row] + endShift <= starts[row] + startShift) {
+        throw new IllegalArgumentException("End time can not be before or on start time"
+                + " for the instance at "
+                + LocalDateTime.ofEpochSecond(starts[row], 0, ZoneOffset.UTC) + ".");
+      }
+    }
+  }
+
+  @Override
+  public EventInterface getEvent(String subject,
+                                 LocalDateTime start,
+                                 LocalDateTime end) throws IllegalArgumentException {
+    int found = NO_ROW;
+    for (int row = firstRow(strings.lookup(subject), toSecond(start)); row != NO_ROW;
+         row = nextWithKey[row]) {
+      if (end == null || (ends[row] != NO_END && ends[row] == toSecond(end)
+              && end.getNano() == 0)) {
+        if (found != NO_ROW) {
+          throw new IllegalArgumentException("Multiple Events with the same Start and Subject");
+        }
+        found = row;
+      }
+    }
+    return found == NO_ROW ? null : eventAt(found);
+  }
+
+  @Override
+  public List<Event> getEventsSingleDay(LocalDate date) {
+    long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+    return overlapping(dayStart, dayStart + SECONDS_PER_DAY - 1);
+  }
+
+  @Override
+  public List<Event> getEventsStartingBetween(LocalDate startDate, LocalDate endDate) {
+    List<Event> events = new ArrayList<>();
+    if (startDate.isAfter(endDate)) {
+      return events;
+    }
+
+    for (DayRows day : rowsByDay.subMap(startDate.toEpochDay(), true,
+            endDate.toEpochDay(), true).values()) {
+      for (int i = 0; i < day.size; i++) {
+        events.add(eventAt(day.rows[i]));
+      }
+    }
+    return events;
+  }
+
+  @Override
+  public List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end) {
+    long first = toSecond(start);
+    if (start.getNano() != 0) {
+      first++;
+    }
+    return overlapping(first, toSecond(end));
+  }
+
+  @Override
+  public boolean isBusy(LocalDateTime dateTime) {
+    long minuteStart = Math.floorDiv(toSecond(dateTime), 60) * 60;
+    return !overlappingRows(minuteStart, minuteStart + 59).isEmpty();
+  }
+
+  @Override
+  public LocalDateTime findFreeSlot(LocalDateTime start, LocalDateTime end, Duration length) {
+    if (length == null || length.isNegative() || length.isZero()) {
+      throw new IllegalArgumentException("Slot length must be positive!");
+    }
+
+    long needed = length.toMinutes();
+    long cursor = Math.floorDiv(toSecond(start), 60);
+    if (start.getSecond() != 0 || start.getNano() != 0) {
+      cursor++;
+    }
+    long limit = Math.floorDiv(toSecond(end), 60);
+
+    for (int row : overlappingRows(cursor * 60, limit * 60 + 59)) {
+      if (Math.floorDiv(starts[row], 60) > cursor + needed) {
+        break;
+      }
+      cursor = Math.max(cursor, Math.floorDiv(endSecond(row), 60) + 1);
+    }
+
+    if (cursor + needed > limit) {
+      return null;
+    }
+    return LocalDateTime.ofEpochSecond(cursor * 60, 0, ZoneOffset.UTC);
+  }
+
+  private List<Event> overlapping(long first, long last) {
+    List<Event> events = new ArrayList<>();
+    for (int row : overlappingRows(first, last)) {
+      events.add(eventAt(row));
+    }
+    return events;
+  }
+
+  private List<Integer> overlappingRows(long first, long last) {
+    List<Integer> matches = new ArrayList<>();
+    if (first > last) {
+      return matches;
+    }
+
+    long firstDay = Math.floorDiv(first, SECONDS_PER_DAY);
+    long lastDay = Math.floorDiv(last, SECONDS_PER_DAY);
+    if (!multiDayDurations.isEmpty()) {
+      // only a row spanning midnight can start on an earlier day and reach the window
+      long earliestDay = Math.floorDiv(first - multiDayDurations.lastKey(), SECONDS_PER_DAY);
+      for (DayRows day : multiDayRowsByDay.subMap(earliestDay, true, firstDay, false).values()) {
+        for (int i = 0; i < day.size; i++) {
+          if (endSecond(day.rows[i]) >= first) {
+            matches.add(day.rows[i]);
+          }
+        }
+      }
+    }
+    for (DayRows day : rowsByDay.subMap(firstDay, true, lastDay, true).values()) {
+      for (int i = 0; i < day.size; i++) {
+        int row = day.rows[i];
+        if (starts[row] > last) {
+          break;
+        }
+        if (endSecond(row) >= first) {
+          matches.add(row);
+        }
+      }
+    }
+    return matches;
+  }
+
+  private Event eventAt(int row) {
+    return (Event) new Event.CustomEventBuilder()
+            .setSubject(strings.decode(subjectIds[row]))
+            .setStartDateTime(LocalDateTime.ofEpochSecond(starts[row], 0, ZoneOffset.UTC))
+            .setEndDateTime(ends[row] == NO_END
+                    ? null : LocalDateTime.ofEpochSecond(ends[row], 0, ZoneOffset.UTC))
+            .setDescription(strings.decode(descriptionIds[row]))
+            .setLocation(locations[row] == NO_ORDINAL ? null : LOCATIONS[locations[row]])
+            .setStatus(statuses[row] == NO_ORDINAL ? null : STATUSES[statuses[row]])
+            .build();
+  }
+
+  private int appendRow(int subjectId, long start, long end, int descriptionId,
+                        Location location, Status status, int seriesId) {
+    if (size == starts.length) {
+      int capacity = size * 2;
+      starts = Arrays.copyOf(starts, capacity);
+      ends = Arrays.copyOf(ends, capacity);
+      subjectIds = Arrays.copyOf(subjectIds, capacity);
+      descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+      locations = Arrays.copyOf(locations, capacity);
+      statuses = Arrays.copyOf(statuses, capacity);
+      seriesIds = Arrays.copyOf(seriesIds, capacity);
+      nextWithKey = Arrays.copyOf(nextWithKey, capacity);
+    }
+
+    int row = size++;
+    seriesIds[row] = seriesId;
+    writeRow(row, subjectId, start, end, descriptionId, location, status);
+    return row;
+  }
+
+  private void overwriteRow(int row, int subjectId, long start, long end, int descriptionId,
+                            Location location, Status status) {
+    unlinkKey(row);
+    rowsByDay.get(Math.floorDiv(starts[row], SECONDS_PER_DAY)).remove(row, starts);
+    if (isMultiDay(row)) {
+      long day = Math.floorDiv(starts[row], SECONDS_PER_DAY);
+      DayRows multiDay = multiDayRowsByDay.get(day);
+      multiDay.remove(row, starts);
+      if (multiDay.size == 0) {
+        multiDayRowsByDay.remove(day);
+      }
+      multiDayDurations.computeIfPresent(endSecond(row) - starts[row],
+              (duration, count) -> count == 1 ? null : count - 1);
+    }
+    writeRow(row, subjectId, start, end, descriptionId, location, status);
+  }
+
+  private void writeRow(int row, int subjectId, long start, long end, int descriptionId,
+                        Location location, Status status) {
+    starts[row] = start;
+    ends[row] = end;
+    subjectIds[row] = subjectId;
+    descriptionIds[row] = descriptionId;
+    locations[row] = location == null ? NO_ORDINAL : (byte) location.ordinal();
+    statuses[row] = status == null ? NO_ORDINAL : (byte) status.ordinal();
+    linkKey(row);
+    rowsByDay.computeIfAbsent(Math.floorDiv(start, SECONDS_PER_DAY), d -> new DayRows())
+            .add(row, starts);
+    if (isMultiDay(row)) {
+      multiDayRowsByDay.computeIfAbsent(Math.floorDiv(start, SECONDS_PER_DAY),
+              d -> new DayRows()).add(row, starts);
+      multiDayDurations.merge(endSecond(row) - start, 1, Integer::sum);
+    }
+  }
+
+  private boolean isMultiDay(int row) {
+    return Math.floorDiv(endSecond(row), SECONDS_PER_DAY)
+            > Math.floorDiv(starts[row], SECONDS_PER_DAY);
+  }
+
+  private int firstRow(int subjectId, long start) {
+    if (subjectId == StringDictionary.NULL_ID) {
+      return NO_ROW;
+    }
+    return firstRowByKey.getOrDefault(new EventKey(subjectId, start), NO_ROW);
+  }
+
+  private void linkKey(int row) {
+    nextWithKey[row] = NO_ROW;
+    EventKey key = new EventKey(subjectIds[row], starts[row]);
+    Integer first = firstRowByKey.putIfAbsent(key, row);
+    if (first != null) {
+      int last = first;
+      while (nextWithKey[last] != NO_ROW) {
+        last = nextWithKey[last];
+      }
+      nextWithKey[last] = row;
+    }
+  }
+
+  private void unlinkKey(int row) {
+    EventKey key = new EventKey(subjectIds[row], starts[row]);
+    int first = firstRowByKey.get(key);
+    if (first == row) {
+      if (nextWithKey[row] == NO_ROW) {
+        firstRowByKey.remove(key);
+      } else {
+        firstRowByKey.put(key, nextWithKey[row]);
+      }
+      return;
+    }
+
+    int previous = first;
+    while (nextWithKey[previous] != row) {
+      previous = nextWithKey[previous];
+    }
+    nextWithKey[previous] = nextWithKey[row];
+  }
+
+  private long endSecond(int row) {
+    return ends[row] == NO_END ? starts[row] : ends[row];
+  }
+
+  private static long endOf(EventInterface event) {
+    return event.getEndDateTime() == null ? NO_END : toSecond(event.getEndDateTime());
+  }
+
+  private static long toSecond(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  private void validateSeries(String subject,
+                              LocalDateTime start,
+                              LocalDateTime end,
+                              List<DayOfWeek> repeatDays) throws IllegalArgumentException {
+    baseExceptions(subject, start);
+
+    if (seriesSubjects.contains(subject) || seriesStarts.contains(start)) {
+      throw new IllegalArgumentException(
+              "Subject and start time cannot be the same as an existing series!"
+      );
+    }
+
+    if (end == null) {
+      start = start.toLocalDate().atTime(8, 0);
+      end = start.toLocalDate().atTime(17, 0);
+    }
+
+    if (repeatDays == null || repeatDays.isEmpty()) {
+      throw new IllegalArgumentException("Repeat days cannot be null or empty.");
+    }
+
+    if (end.isBefore(start) || end.isEqual(start)) {
+      throw new IllegalArgumentException("End time can not be before or on start time.");
+    }
+  }
+
+  private void baseExceptions(String subject,
+                              LocalDateTime start) throws IllegalArgumentException {
+    if (subject == null || subject.isEmpty()) {
+      throw new IllegalArgumentException("Subject must contain a string!");
+    }
+    if (start == null) {
+      throw new IllegalArgumentException("Start time cannot be null!");
+    }
+  }
+
+  /**
+   * The rows starting on a single day, sorted by their start and then by the
+   * order in which they were added.
+   */
+  private static final class DayRows {
+    private int[] rows = new int[4];
+    private int size;
+
+    private void add(int row, long[] starts) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (starts[rows[mid]] > starts[row]) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, size * 2);
+      }
+      System.arraycopy(rows, low, rows, low + 1, size - low);
+      rows[low] = row;
+      size++;
+    }
+
+    private void remove(int row, long[] starts) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (starts[rows[mid]] < starts[row]) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+
+      while (rows[low] != row) {
+        low++;
+      }
+      System.arraycopy(rows, low + 1, rows, low, size - low - 1);
+      size--;
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.event.Event;
+
+/**
+ * An augmented interval tree that indexes events by their start date time so
+ * that window queries only visit the events that can overlap the window. The
+ * tree is a self-balancing AVL tree where every node stores the events that
+ * share a start date time and the latest end date time within its subtree.
+ * Times are compared as epoch seconds, and events without an end date time are
+ * indexed as if they end when they start.
+ */
+class EventIntervalTree {
+  private Node root;
+  private int size;
+
+  /**
+   * A single node of the tree holding every event that starts at the node's key.
+   */
+  private static final class Node {
+    private final long start;
+    private final List<Event> events = new ArrayList<>(1);
+    private long maxEnd;
+    private long bucketMaxEnd;
+    private int height = 1;
+    private Node left;
+    private Node right;
+
+    private Node(long start) {
+      this.start = start;
+    }
+  }
+
+  /**
+   * Gets the number of events stored within the tree.
+   *
+   * @return the number of events in the tree.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Inserts an event into the tree.
+   *
+   * @param event the event to be indexed.
+   */
+  void insert(Event event) {
+    root = insert(root, event);
+    size++;
+  }
+
+  /**
+   * Removes the given event instance from the tree if it is present.
+   *
+   * @param event the event to be removed.
+   * @return whether the event was found and removed.
+   */
+  boolean remove(Event event) {
+    boolean[] removed = new boolean[1];
+    root = remove(root, event, removed);
+    if (removed[0]) {
+      size--;
+    }
+    return removed[0];
+  }
+
+  /**
+   * Collects every event overlapping the closed window from start to end, ordered
+   * by the start date time of the events.
+   *
+   * @param start the starting time for the window in epoch seconds.
+   * @param end   the ending time for the window in epoch seconds.
+   * @return a list of events that overlap the window.
+   */
+  List<Event> query(long start, long end) {
+    List<Event> result = new ArrayList<>();
+    query(root, start, end, result);
+    return result;
+  }
+
+  private void query(Node node, long start, long end, List<Event> result) {
+    if (node == null || node.maxEnd < start) {
+      return;
+    }
+
+    query(node.left, start, end, result);
+
+    if (node.start > end) {
+      return;
+    }
+
+    if (node.bucketMaxEnd >= start) {
+      for (Event e : node.events) {
+        if (e.getEndEpochSecond() >= start) {
+          result.add(e);
+        }
+      }
+    }
+
+    query(node.right, start, end, result);
+  }
+
+  private Node insert(Node node, Event event) {
+    long start = event.getStartEpochSecond();
+
+    if (node == null) {
+      Node created = new Node(start);
+      created.events.add(event);
+      updateBucket(created);
+      update(created);
+      return created;
+    }
+
+    int compare = Long.compare(start, node.start);
+    if (compare < 0) {
+      node.left = insert(node.left, event);
+    } else if (compare > 0) {
+      node.right = insert(node.right, event);
+    } else {
+      node.events.add(event);
+      updateBucket(node);
+      update(node);
+      return node;
+    }
+
+    return balance(node);
+  }
+
+  private Node remove(Node node, Event event, boolean[] removed) {
+    if (node == null) {
+      return null;
+    }
+
+    int compare = Long.compare(event.getStartEpochSecond(), node.start);
+    if (compare < 0) {
+      node.left = remove(node.left, event, removed);
+    } else if (compare > 0) {
+      node.right = remove(node.right, event, removed);
+    } else {
+      for (int i = 0; i < node.events.size(); i++) {
+        if (node.events.get(i) == event) {
+          node.events.remove(i);
+          removed[0] = true;
+          break;
+        }
+      }
+
+      if (!node.events.isEmpty()) {
+        updateBucket(node);
+        update(node);
+        return node;
+      }
+
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+
+      Node successor = node.right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      Node replacement = new Node(successor.start);
+      replacement.events.addAll(successor.events);
+      replacement.right = removeMin(node.right);
+      replacement.left = node.left;
+      updateBucket(replacement);
+      return balance(replacement);
+    }
+
+    return balance(node);
+  }
+
+  private Node removeMin(Node node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    node.left = removeMin(node.left);
+    return balance(node);
+  }
+
+  private void updateBucket(Node node) {
+    long latest = Long.MIN_VALUE;
+    for (Event e : node.events) {
+      latest = Math.max(latest, e.getEndEpochSecond());
+    }
+    node.bucketMaxEnd = latest;
+  }
+
+  private void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+
+    long latest = node.bucketMaxEnd;
+    if (node.left != null) {
+      latest = Math.max(latest, node.left.maxEnd);
+    }
+    if (node.right != null) {
+      latest = Math.max(latest, node.right.maxEnd);
+    }
+    node.maxEnd = latest;
+  }
+
+  private Node balance(Node node) {
+    update(node);
+    int factor = height(node.left) - height(node.right);
+
+    if (factor > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+
+    if (factor < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+
+    return node;
+  }
+
+  private Node rotateRight(Node node) {
+    Node pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private Node rotateLeft(Node node) {
+    Node pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+}
@@ -0,0 +1,39 @@
+package model.calendar;
+
+/**
+ * A key that identifies events by the dictionary id of their subject and their
+ * start in epoch seconds, used to look up events within a calendar without
+ * scanning the events of a date or comparing subject strings.
+ */
+final class EventKey {
+  private final int subjectId;
+  private final long start;
+
+  /**
+   * Constructor for the key of an event.
+   *
+   * @param subjectId the dictionary id of the subject of the event.
+   * @param start     the start of the event in epoch seconds.
+   */
+  EventKey(int subjectId, long start) {
+    this.subjectId = subjectId;
+    this.start = start;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof EventKey)) {
+      return false;
+    }
+    EventKey key = (EventKey) other;
+    return subjectId == key.subjectId && start == key.start;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * subjectId + Long.hashCode(start);
+  }
+}
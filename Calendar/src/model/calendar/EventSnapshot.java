@@ -0,0 +1,137 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.event.Event;
+
+/**
+ * An immutable version of the events of a calendar, grouped by the day each
+ * event starts on. The days are stored in a radix trie of fixed depth, so a new
+ * version with some days replaced only copies the nodes on the paths to those
+ * days and shares every other node with the version it was derived from.
+ */
+final class EventSnapshot {
+  private static final int BITS = 6;
+  private static final int WIDTH = 1 << BITS;
+  private static final int LEVELS = 6;
+  private static final long OFFSET = 1L << (BITS * LEVELS - 1);
+  private static final long MAX_KEY = (1L << (BITS * LEVELS)) - 1;
+
+  static final EventSnapshot EMPTY = new EventSnapshot(null, 0);
+
+  private final Object[] root;
+  private final long longestDuration;
+
+  private EventSnapshot(Object[] root, long longestDuration) {
+    this.root = root;
+    this.longestDuration = longestDuration;
+  }
+
+  /**
+   * Gets the longest duration in seconds of any event stored in this version or
+   * the versions it was derived from, which bounds how many days before a window
+   * an event overlapping the window may start.
+   *
+   * @return the longest duration in seconds.
+   */
+  long getLongestDuration() {
+    return longestDuration;
+  }
+
+  /**
+   * Creates a new version in which the events starting on the given days are
+   * replaced, leaving this version unchanged.
+   *
+   * @param days    the epoch days to be replaced, sorted in ascending order.
+   * @param buckets the events starting on each day sorted by their start, or an
+   *                empty array if no event starts on the day anymore.
+   * @return the new version of the events.
+   * @throws IllegalArgumentException if a day is too far from the epoch.
+   */
+  EventSnapshot withDays(long[] days, Event[][] buckets) throws IllegalArgumentException {
+    long[] keys = new long[days.length];
+    long longest = longestDuration;
+    for (int i = 0; i < days.length; i++) {
+      keys[i] = days[i] + OFFSET;
+      if (keys[i] < 0 || keys[i] > MAX_KEY) {
+        throw new IllegalArgumentException("Date is out of range for a snapshot calendar!");
+      }
+      for (Event e : buckets[i]) {
+        longest = Math.max(longest, e.getEndEpochSecond() - e.getStartEpochSecond());
+      }
+    }
+    return new EventSnapshot(update(root, 0, keys, buckets, 0, keys.length), longest);
+  }
+
+  /**
+   * Gets the events starting between the given days, both inclusive, sorted by
+   * their start.
+   *
+   * @param firstDay the first epoch day to be included.
+   * @param lastDay  the last epoch day to be included.
+   * @return the events starting on the days.
+   */
+  List<Event> eventsStartingBetween(long firstDay, long lastDay) {
+    List<Event> events = new ArrayList<>();
+    long first = Math.max(firstDay, -OFFSET) + OFFSET;
+    long last = Math.min(lastDay, MAX_KEY - OFFSET) + OFFSET;
+    if (root != null && first <= last) {
+      collect(root, 0, 0, first, last, events);
+    }
+    return events;
+  }
+
+  private static Object[] update(Object[] node, int level, long[] keys, Event[][] buckets,
+                                 int from, int to) {
+    Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+    int shift = BITS * (LEVELS - 1 - level);
+
+    int i = from;
+    while (i < to) {
+      int slot = slotOf(keys[i], shift);
+      int j = i + 1;
+      while (j < to && slotOf(keys[j], shift) == slot) {
+        j++;
+      }
+
+      if (level == LEVELS - 1) {
+        copy[slot] = buckets[i].length == 0 ? null : buckets[i];
+      } else {
+        copy[slot] = update((Object[]) copy[slot], level + 1, keys, buckets, i, j);
+      }
+      i = j;
+    }
+
+    for (Object child : copy) {
+      if (child != null) {
+        return copy;
+      }
+    }
+    return null;
+  }
+
+  private static void collect(Object[] node, int level, long base, long first, long last,
+                              List<Event> events) {
+    int shift = BITS * (LEVELS - 1 - level);
+    int fromSlot = (int) Math.max(0, (first - base) >> shift);
+    int toSlot = (int) Math.min(WIDTH - 1, (last - base) >> shift);
+
+    for (int slot = fromSlot; slot <= toSlot; slot++) {
+      Object child = node[slot];
+      if (child == null) {
+        continue;
+      }
+      if (level == LEVELS - 1) {
+        events.addAll(Arrays.asList((Event[]) child));
+      } else {
+        collect((Object[]) child, level + 1, base + ((long) slot << shift), first, last, events);
+      }
+    }
+  }
+
+  private static int slotOf(long key, int shift) {
+    return (int) ((key >>> shift) & (WIDTH - 1));
+  }
+}
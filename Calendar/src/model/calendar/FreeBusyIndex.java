@@ -0,0 +1,175 @@
+package model.calendar;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import model.event.Event;
+
+/**
+ * A free/busy engine that keeps one bitmap of 1440 bits per day, where each bit
+ * marks whether the minute is covered by at least one event. Events cover every
+ * minute from their start up to and including their end, matching the closed
+ * intervals used by window queries, and times are truncated to the minute.
+ */
+class FreeBusyIndex {
+  private static final int MINUTES_PER_DAY = 1440;
+  private static final long SECONDS_PER_DAY = 86400;
+
+  private final Map<LocalDate, BitSet> busyByDate = new HashMap<>();
+  private final EventIntervalTree events;
+
+  /**
+   * Constructor for the free/busy engine.
+   *
+   * @param events the interval tree holding every event of the calendar, used to
+   *               rebuild the bitmaps of days an event was removed from.
+   */
+  FreeBusyIndex(EventIntervalTree events) {
+    this.events = events;
+  }
+
+  /**
+   * Marks every minute covered by the event as busy.
+   *
+   * @param event the event that was added to the calendar.
+   */
+  void mark(Event event) {
+    setRange(Math.floorDiv(event.getStartEpochSecond(), 60),
+            Math.floorDiv(event.getEndEpochSecond(), 60));
+  }
+
+  /**
+   * Recomputes the days covered by an event that was removed from the calendar
+   * based on the events that remain in the interval tree.
+   *
+   * @param event the event that was removed from the calendar.
+   */
+  void release(Event event) {
+    long lastDay = Math.floorDiv(event.getEndEpochSecond(), SECONDS_PER_DAY);
+    for (long day = Math.floorDiv(event.getStartEpochSecond(), SECONDS_PER_DAY);
+         day <= lastDay; day++) {
+      busyByDate.remove(LocalDate.ofEpochDay(day));
+
+      long dayStart = day * MINUTES_PER_DAY;
+      for (Event remaining : events.query(day * SECONDS_PER_DAY,
+              (day + 1) * SECONDS_PER_DAY - 1)) {
+        long first = Math.max(Math.floorDiv(remaining.getStartEpochSecond(), 60), dayStart);
+        long last = Math.min(Math.floorDiv(remaining.getEndEpochSecond(), 60),
+                dayStart + MINUTES_PER_DAY - 1);
+        setRange(first, last);
+      }
+    }
+  }
+
+  /**
+   * Determines whether any event covers the minute of the given date time.
+   *
+   * @param dateTime the date time to be checked.
+   * @return a boolean based on whether the minute is busy.
+   */
+  boolean isBusy(LocalDateTime dateTime) {
+    BitSet day = busyByDate.get(dateTime.toLocalDate());
+    return day != null && day.get(dateTime.getHour() * 60 + dateTime.getMinute());
+  }
+
+  /**
+   * Finds the earliest run of free minutes of the given length that lies entirely
+   * within the window from start to end. A slot follows the same closed convention
+   * as events, covering every minute from its start up to and including its end,
+   * so a slot can neither start on the end minute of one event nor end on the
+   * start minute of the next.
+   *
+   * @param start  the earliest date time the slot may begin.
+   * @param end    the latest date time the slot may finish.
+   * @param length the length of the slot.
+   * @return the start of the first free slot, or null if there is none.
+   */
+  LocalDateTime findFreeSlot(LocalDateTime start, LocalDateTime end, Duration length) {
+    long needed = length.toMinutes();
+    long cursor = toMinute(start);
+    if (start.getSecond() != 0 || start.getNano() != 0) {
+      cursor++;
+    }
+    long limit = toMinute(end);
+
+    while (cursor + needed <= limit) {
+      long free = nextFreeMinute(cursor, limit);
+      if (free < 0 || free + needed > limit) {
+        return null;
+      }
+
+      long busy = nextBusyMinute(free, free + needed + 1);
+      if (busy < 0) {
+        return fromMinute(free);
+      }
+      cursor = busy + 1;
+    }
+    return null;
+  }
+
+  private long nextFreeMinute(long from, long limit) {
+    long cursor = from;
+    while (cursor < limit) {
+      BitSet day = busyByDate.get(LocalDate.ofEpochDay(Math.floorDiv(cursor, MINUTES_PER_DAY)));
+      long dayStart = Math.floorDiv(cursor, MINUTES_PER_DAY) * MINUTES_PER_DAY;
+      if (day == null) {
+        return cursor;
+      }
+
+      int clear = day.nextClearBit((int) (cursor - dayStart));
+      if (clear < MINUTES_PER_DAY) {
+        return dayStart + clear;
+      }
+      cursor = dayStart + MINUTES_PER_DAY;
+    }
+    return -1;
+  }
+
+  private long nextBusyMinute(long from, long limit) {
+    long cursor = from;
+    while (cursor < limit) {
+      BitSet day = busyByDate.get(LocalDate.ofEpochDay(Math.floorDiv(cursor, MINUTES_PER_DAY)));
+      long dayStart = Math.floorDiv(cursor, MINUTES_PER_DAY) * MINUTES_PER_DAY;
+
+      if (day != null) {
+        int set = day.nextSetBit((int) (cursor - dayStart));
+        if (set >= 0) {
+          long busy = dayStart + set;
+          return busy < limit ? busy : -1;
+        }
+      }
+      cursor = dayStart + MINUTES_PER_DAY;
+    }
+    return -1;
+  }
+
+  private void setRange(long first, long last) {
+    if (last < first) {
+      return;
+    }
+    for (long dayStart = Math.floorDiv(first, MINUTES_PER_DAY) * MINUTES_PER_DAY;
+         dayStart <= last; dayStart += MINUTES_PER_DAY) {
+      BitSet day = busyByDate.computeIfAbsent(
+              LocalDate.ofEpochDay(dayStart / MINUTES_PER_DAY), d -> new BitSet(MINUTES_PER_DAY));
+      int from = (int) Math.max(first - dayStart, 0);
+      int to = (int) Math.min(last - dayStart, MINUTES_PER_DAY - 1);
+      day.set(from, to + 1);
+    }
+  }
+
+  private static long toMinute(LocalDateTime dateTime) {
+    return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+            + dateTime.getHour() * 60 + dateTime.getMinute();
+  }
+
+  private static LocalDateTime fromMinute(long minute) {
+    return LocalDate.ofEpochDay(Math.floorDiv(minute, MINUTES_PER_DAY))
+            .atStartOfDay()
+            .plusMinutes(Math.floorMod(minute, MINUTES_PER_DAY));
+  }
+
+}
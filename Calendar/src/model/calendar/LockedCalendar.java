@@ -0,0 +1,121 @@
+package model.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import model.enums.EditMode;
+import model.enums.Location;
+import model.enums.Status;
+import model.event.Event;
+import model.event.EventInterface;
+import model.event.EventSeries;
+
+/**
+ * A calendar that can be shared between threads, guarding every operation with
+ * a read/write lock so that any number of queries run in parallel while the
+ * operations creating or editing events run alone. Queries return series
+ * instances as copies holding their details, since an instance reads them from
+ * the template of its series, which an edit may swap once the lock is released.
+ */
+public class LockedCalendar extends Calendar {
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  @Override
+  public Event createEvent(String subject,
+                           LocalDateTime start,
+                           LocalDateTime end,
+                           String description,
+                           Location location,
+                           Status status) throws IllegalArgumentException {
+    return write(() -> super.createEvent(subject, start, end, description, location, status));
+  }
+
+  @Override
+  public EventSeries createEventSeries(String subject,
+                                       LocalDateTime start,
+                                       LocalDateTime end,
+                                       List<DayOfWeek> repeatDays,
+                                       Integer occurrences,
+                                       String description,
+                                       Location location,
+                                       Status status) {
+    return write(() -> super.createEventSeries(subject, start, end, repeatDays, occurrences,
+            description, location, status));
+  }
+
+  @Override
+  public List<EventSeries> createEventSeries(List<EventSeries> batch)
+          throws IllegalArgumentException {
+    return write(() -> super.createEventSeries(batch));
+  }
+
+  @Override
+  public void editEvent(String subject,
+                        LocalDateTime start,
+                        EventInterface updatedEvent,
+                        EditMode mode) {
+    write(() -> {
+      super.editEvent(subject, start, updatedEvent, mode);
+      return null;
+    });
+  }
+
+  @Override
+  public EventInterface getEvent(String subject,
+                                 LocalDateTime start,
+                                 LocalDateTime end) throws IllegalArgumentException {
+    return read(() -> {
+      EventInterface found = super.getEvent(subject, start, end);
+      return found instanceof Event ? frozen((Event) found) : found;
+    });
+  }
+
+  @Override
+  public List<Event> getEventsSingleDay(LocalDate date) {
+    return read(() -> frozen(super.getEventsSingleDay(date)));
+  }
+
+  @Override
+  public List<Event> getEventsStartingBetween(LocalDate startDate, LocalDate endDate) {
+    return read(() -> frozen(super.getEventsStartingBetween(startDate, endDate)));
+  }
+
+  @Override
+  public List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end) {
+    return read(() -> frozen(super.getEventsWindow(start, end)));
+  }
+
+  @Override
+  public boolean isBusy(LocalDateTime dateTime) {
+    return read(() -> super.isBusy(dateTime));
+  }
+
+  @Override
+  public LocalDateTime findFreeSlot(LocalDateTime start, LocalDateTime end, Duration length) {
+    return read(() -> super.findFreeSlot(start, end, length));
+  }
+
+  private <T> T read(Supplier<T> operation) {
+    lock.readLock().lock();
+    try {
+      return operation.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private <T> T write(Supplier<T> operation) {
+    lock.writeLock().lock();
+    try {
+      return operation.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
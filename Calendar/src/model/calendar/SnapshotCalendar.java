@@ -0,0 +1,214 @@
+package model.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import model.enums.EditMode;
+import model.enums.Location;
+import model.enums.Status;
+import model.event.Event;
+import model.event.EventInterface;
+import model.event.EventSeries;
+
+/**
+ * A calendar that can be shared between threads, answering every query from an
+ * immutable snapshot of its events so that queries never block. Operations that
+ * create or edit events run one at a time and publish a new snapshot once they
+ * finish, which only copies the days whose events changed, so a query sees
+ * either none or all of the changes made by an edit to a series.
+ */
+public class SnapshotCalendar extends Calendar {
+  private static final long SECONDS_PER_DAY = 86400;
+
+  private volatile EventSnapshot snapshot = EventSnapshot.EMPTY;
+  private final TreeSet<LocalDate> changedDates = new TreeSet<>();
+
+  @Override
+  public Event createEvent(String subject,
+                           LocalDateTime start,
+                           LocalDateTime end,
+                           String description,
+                           Location location,
+                           Status status) throws IllegalArgumentException {
+    return write(() -> super.createEvent(subject, start, end, description, location, status));
+  }
+
+  @Override
+  public EventSeries createEventSeries(String subject,
+                                       LocalDateTime start,
+                                       LocalDateTime end,
+                                       List<DayOfWeek> repeatDays,
+                                       Integer occurrences,
+                                       String description,
+                                       Location location,
+                                       Status status) {
+    return write(() -> super.createEventSeries(subject, start, end, repeatDays, occurrences,
+            description, location, status));
+  }
+
+  @Override
+  public List<EventSeries> createEventSeries(List<EventSeries> batch)
+          throws IllegalArgumentException {
+    return write(() -> super.createEventSeries(batch));
+  }
+
+  @Override
+  public void editEvent(String subject,
+                        LocalDateTime start,
+                        EventInterface updatedEvent,
+                        EditMode mode) {
+    write(() -> {
+      super.editEvent(subject, start, updatedEvent, mode);
+      return null;
+    });
+  }
+
+  @Override
+  public EventInterface getEvent(String subject,
+                                 LocalDateTime start,
+                                 LocalDateTime end) throws IllegalArgumentException {
+    if (start.getNano() != 0) {
+      return null;
+    }
+
+    long day = start.toLocalDate().toEpochDay();
+    long startSecond = toSecond(start);
+    EventInterface returnEvent = null;
+    for (Event e : snapshot.eventsStartingBetween(day, day)) {
+      if (e.getStartEpochSecond() == startSecond && e.getSubject().equals(subject)
+              && (end == null
+              || (e.getEndDateTime() != null && e.getEndDateTime().equals(end)))) {
+        if (returnEvent != null) {
+          throw new IllegalArgumentException("Multiple Events with the same Start and Subject");
+        }
+        returnEvent = e;
+      }
+    }
+    return returnEvent;
+  }
+
+  @Override
+  public List<Event> getEventsSingleDay(LocalDate date) {
+    long dayStart = date.toEpochDay() * SECONDS_PER_DAY;
+    return overlapping(snapshot, dayStart, dayStart + SECONDS_PER_DAY - 1);
+  }
+
+  @Override
+  public List<Event> getEventsStartingBetween(LocalDate startDate, LocalDate endDate) {
+    if (startDate.isAfter(endDate)) {
+      return new ArrayList<>();
+    }
+    return snapshot.eventsStartingBetween(startDate.toEpochDay(), endDate.toEpochDay());
+  }
+
+  @Override
+  public List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end) {
+    long first = toSecond(start);
+    if (start.getNano() != 0) {
+      first++;
+    }
+    return overlapping(snapshot, first, toSecond(end));
+  }
+
+  @Override
+  public boolean isBusy(LocalDateTime dateTime) {
+    long minuteStart = Math.floorDiv(toSecond(dateTime), 60) * 60;
+    return !overlapping(snapshot, minuteStart, minuteStart + 59).isEmpty();
+  }
+
+  @Override
+  public LocalDateTime findFreeSlot(LocalDateTime start, LocalDateTime end, Duration length) {
+    if (length == null || length.isNegative() || length.isZero()) {
+      throw new IllegalArgumentException("Slot length must be positive!");
+    }
+
+    long needed = length.toMinutes();
+    long cursor = Math.floorDiv(toSecond(start), 60);
+    if (start.getSecond() != 0 || start.getNano() != 0) {
+      cursor++;
+    }
+    long limit = Math.floorDiv(toSecond(end), 60);
+
+    for (Event e : overlapping(snapshot, cursor * 60, limit * 60 + 59)) {
+      if (Math.floorDiv(e.getStartEpochSecond(), 60) > cursor + needed) {
+        break;
+      }
+      cursor = Math.max(cursor, Math.floorDiv(e.getEndEpochSecond(), 60) + 1);
+    }
+
+    if (cursor + needed > limit) {
+      return null;
+    }
+    return LocalDateTime.ofEpochSecond(cursor * 60, 0, ZoneOffset.UTC);
+  }
+
+  @Override
+  void eventsChangedOn(LocalDate date) {
+    changedDates.add(date);
+  }
+
+  @Override
+  void instanceTemplateChanged(EventSeries series) {
+    for (Event instance : series.getInstances()) {
+      if (series.sharesTemplate(instance)) {
+        changedDates.add(instance.getStartDateTime().toLocalDate());
+      }
+    }
+  }
+
+  private synchronized <T> T write(Supplier<T> operation) {
+    try {
+      return operation.get();
+    } finally {
+      publish();
+    }
+  }
+
+  private void publish() {
+    if (changedDates.isEmpty()) {
+      return;
+    }
+
+    long[] days = new long[changedDates.size()];
+    Event[][] buckets = new Event[days.length][];
+    int i = 0;
+    for (LocalDate date : changedDates) {
+      List<Event> events = eventsStartingOn(date);
+      days[i] = date.toEpochDay();
+      buckets[i] = new Event[events.size()];
+      for (int j = 0; j < events.size(); j++) {
+        buckets[i][j] = frozen(events.get(j));
+      }
+      i++;
+    }
+    changedDates.clear();
+    snapshot = snapshot.withDays(days, buckets);
+  }
+
+  private static List<Event> overlapping(EventSnapshot version, long first, long last) {
+    List<Event> events = new ArrayList<>();
+    if (first > last) {
+      return events;
+    }
+
+    for (Event e : version.eventsStartingBetween(
+            Math.floorDiv(first - version.getLongestDuration(), SECONDS_PER_DAY),
+            Math.floorDiv(last, SECONDS_PER_DAY))) {
+      if (e.getStartEpochSecond() <= last && e.getEndEpochSecond() >= first) {
+        events.add(e);
+      }
+    }
+    return events;
+  }
+
+  private static long toSecond(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,73 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A dictionary that encodes the strings of a calendar as small integer ids, so
+ * that every distinct subject or description is stored once no matter how many
+ * events use it. Null strings are encoded as the id -1.
+ */
+final class StringDictionary {
+  static final int NULL_ID = -1;
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> values = new ArrayList<>();
+
+  /**
+   * Gets the id of the given string, adding the string to the dictionary if it
+   * has not been seen before.
+   *
+   * @param value the string to be encoded.
+   * @return the id of the string.
+   */
+  int encode(String value) {
+    if (value == null) {
+      return NULL_ID;
+    }
+    Integer id = ids.get(value);
+    if (id == null) {
+      id = values.size();
+      ids.put(value, id);
+      values.add(value);
+    }
+    return id;
+  }
+
+  /**
+   * Gets the id of the given string without adding it to the dictionary.
+   *
+   * @param value the string to be looked up.
+   * @return the id of the string, or -1 if the string is null or unknown.
+   */
+  int lookup(String value) {
+    if (value == null) {
+      return NULL_ID;
+    }
+    Integer id = ids.get(value);
+    return id == null ? NULL_ID : id;
+  }
+
+  /**
+   * Gets the single shared instance of the given string held by the dictionary,
+   * adding the string if it has not been seen before.
+   *
+   * @param value the string to be interned.
+   * @return the shared instance of the string, or null if the string is null.
+   */
+  String intern(String value) {
+    return decode(encode(value));
+  }
+
+  /**
+   * Gets the string with the given id.
+   *
+   * @param id the id of the string.
+   * @return the string, or null if the id is -1.
+   */
+  String decode(int id) {
+    return id == NULL_ID ? null : values.get(id);
+  }
+}
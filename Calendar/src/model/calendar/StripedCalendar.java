@@ -0,0 +1,563 @@
+package model.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import model.enums.EditMode;
+import model.enums.Location;
+import model.enums.Status;
+import model.event.Event;
+import model.event.EventInterface;
+import model.event.EventSeries;
+
+/**
+ * A calendar that can be shared between threads, made of one calendar per stripe
+ * of ISO weeks. Each ISO week maps to one of a fixed number of stripes, each with
+ * its own read/write lock, and every event is indexed in the calendar of the stripe
+ * of the week it starts in. Creating or editing an event outside a series only
+ * locks the stripes it starts in before and after the edit, so threads working on
+ * different weeks share neither a lock nor an index and run in parallel.
+ *
+ * <p>Each series also lives in a calendar of its own, which edits it the way a
+ * single calendar would. An edit to a series locks the stripes its instances start
+ * in along with the stripes the edit can move them into, takes the instances out
+ * of those stripes, edits the series and puts the instances it ends up with back.
+ * Series spanning different weeks are therefore edited in parallel with each other
+ * and with the events around them. The stripes are always locked in ascending
+ * order, so that no two operations can wait on each other. Subjects and starts of
+ * the series are checked against every series under a lock of their own, which is
+ * never held while waiting on a stripe.
+ *
+ * <p>Queries read every stripe an event overlapping the query can start in, and
+ * merge the results by their start. The series instances are copied while the
+ * stripes are locked, since they read their details from the template of their
+ * series.
+ */
+public class StripedCalendar implements CalendarInterface {
+  private static final int STRIPES = 64;
+  private static final long SECONDS_PER_WEEK = 7 * 24 * 60 * 60;
+  private static final Comparator<Event> BY_START =
+          Comparator.comparingLong(Event::getStartEpochSecond);
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final Map<String, Integer> seriesSubjects = new HashMap<>();
+  private final Set<LocalDateTime> seriesStarts = new HashSet<>();
+  private final AtomicLong longestEvent = new AtomicLong();
+
+  /**
+   * Constructor for a striped calendar.
+   */
+  public StripedCalendar() {
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  @Override
+  public Event createEvent(String subject,
+                           LocalDateTime start,
+                           LocalDateTime end,
+                           String description,
+                           Location location,
+                           Status status) throws IllegalArgumentException {
+    if (start == null) {
+      throw new IllegalArgumentException("Start time cannot be null!");
+    }
+
+    Stripe stripe = stripes[stripeOf(start.toLocalDate())];
+    stripe.lock.writeLock().lock();
+    try {
+      Event created = stripe.calendar.createEvent(subject, start, end, description,
+              location, status);
+      recordLength(created);
+      return created;
+    } finally {
+      stripe.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public EventSeries createEventSeries(String subject,
+                                       LocalDateTime start,
+                                       LocalDateTime end,
+                                       List<DayOfWeek> repeatDays,
+                                       Integer occurrences,
+                                       String description,
+                                       Location location,
+                                       Status status) {
+    SeriesCalendar series = new SeriesCalendar();
+    EventSeries created = series.calendar.createEventSeries(subject, start, end, repeatDays,
+            occurrences, description, location, status);
+    claimSeries(List.of(start), List.of(created));
+    publish(series);
+    return created;
+  }
+
+  @Override
+  public List<EventSeries> createEventSeries(List<EventSeries> batch)
+          throws IllegalArgumentException {
+    List<SeriesCalendar> calendars = new ArrayList<>(batch.size());
+    List<LocalDateTime> starts = new ArrayList<>(batch.size());
+    List<EventSeries> created = new ArrayList<>(batch.size());
+    for (EventSeries spec : batch) {
+      SeriesCalendar series = new SeriesCalendar();
+      created.add(series.calendar.createEventSeries(spec.getSubject(),
+              spec.getStartDateTime(),
+              spec.endDateTimeOfSeries,
+              spec.repeatDays,
+              spec.occurrences,
+              spec.getDescription(),
+              spec.getLocation(),
+              spec.getStatus()));
+      calendars.add(series);
+      starts.add(spec.getStartDateTime());
+    }
+
+    claimSeries(starts, created);
+    for (SeriesCalendar series : calendars) {
+      publish(series);
+    }
+    return created;
+  }
+
+  @Override
+  public void editEvent(String subject,
+                        LocalDateTime start,
+                        EventInterface updatedEvent,
+                        EditMode mode) {
+    if (start == null) {
+      throw new IllegalArgumentException("Start time cannot be null!");
+    }
+
+    // an edit gives up and is retried when another one moved what it locked for
+    while (true) {
+      SeriesCalendar series = seriesHolding(subject, start);
+      if (series == null
+              ? editInStripes(subject, start, updatedEvent, mode)
+              : editInSeries(series, subject, start, updatedEvent, mode)) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public EventInterface getEvent(String subject,
+                                 LocalDateTime start,
+                                 LocalDateTime end) throws IllegalArgumentException {
+    BitSet weeks = start == null ? new BitSet(STRIPES) : weeksOf(start, start, 0);
+    return read(weeks, () -> {
+      EventInterface found = null;
+      for (Calendar calendar : calendarsOf(weeks)) {
+        EventInterface event = calendar.getEvent(subject, start, end);
+        if (event != null && found != null) {
+          throw new IllegalArgumentException("Multiple Events with the same Start and Subject");
+        }
+        found = event == null ? found : event;
+      }
+      return found instanceof Event ? Calendar.frozen((Event) found) : found;
+    });
+  }
+
+  @Override
+  public List<Event> getEventsSingleDay(LocalDate date) {
+    BitSet weeks = weeksOf(date.atStartOfDay(), date.atStartOfDay(), longestEvent.get());
+    return read(weeks, () -> {
+      List<Event> events = new ArrayList<>();
+      for (Calendar calendar : calendarsOf(weeks)) {
+        events.addAll(Calendar.frozen(calendar.getEventsSingleDay(date)));
+      }
+      events.sort(BY_START);
+      return events;
+    });
+  }
+
+  @Override
+  public List<Event> getEventsStartingBetween(LocalDate startDate, LocalDate endDate) {
+    BitSet weeks = weeksOf(startDate.atStartOfDay(), endDate.atStartOfDay(), 0);
+    return read(weeks, () -> {
+      List<Event> events = new ArrayList<>();
+      for (Calendar calendar : calendarsOf(weeks)) {
+        events.addAll(Calendar.frozen(calendar.getEventsStartingBetween(startDate, endDate)));
+      }
+      events.sort(BY_START);
+      return events;
+    });
+  }
+
+  @Override
+  public List<Event> getEventsWindow(LocalDateTime start, LocalDateTime end) {
+    BitSet weeks = weeksOf(start, end, longestEvent.get());
+    return read(weeks, () -> {
+      List<Event> events = new ArrayList<>();
+      for (Calendar calendar : calendarsOf(weeks)) {
+        events.addAll(Calendar.frozen(calendar.getEventsWindow(start, end)));
+      }
+      events.sort(BY_START);
+      return events;
+    });
+  }
+
+  @Override
+  public boolean isBusy(LocalDateTime dateTime) {
+    BitSet weeks = weeksOf(dateTime, dateTime, longestEvent.get());
+    return read(weeks, () -> {
+      for (Calendar calendar : calendarsOf(weeks)) {
+        if (calendar.isBusy(dateTime)) {
+          return true;
+        }
+      }
+      return false;
+    });
+  }
+
+  @Override
+  public LocalDateTime findFreeSlot(LocalDateTime start, LocalDateTime end, Duration length) {
+    BitSet weeks = weeksOf(start, end, longestEvent.get());
+    return read(weeks, () -> {
+      List<Calendar> calendars = calendarsOf(weeks);
+      // each calendar moves the slot past its own events until none of them moves it
+      LocalDateTime slot = start;
+      while (true) {
+        LocalDateTime candidate = slot;
+        for (int i = 0; slot != null && i < calendars.size(); i++) {
+          slot = calendars.get(i).findFreeSlot(slot, end, length);
+        }
+        if (slot == null || slot.equals(candidate)) {
+          return slot;
+        }
+      }
+    });
+  }
+
+  private SeriesCalendar seriesHolding(String subject, LocalDateTime start) {
+    Stripe stripe = stripes[stripeOf(start.toLocalDate())];
+    stripe.lock.readLock().lock();
+    try {
+      return ownerOf(stripe, subject, start);
+    } finally {
+      stripe.lock.readLock().unlock();
+    }
+  }
+
+  private boolean editInStripes(String subject,
+                                LocalDateTime start,
+                                EventInterface updatedEvent,
+                                EditMode mode) {
+    int from = stripeOf(start.toLocalDate());
+    int to = updatedEvent == null || updatedEvent.getStartDateTime() == null
+            ? from : stripeOf(updatedEvent.getStartDateTime().toLocalDate());
+    BitSet locked = new BitSet(STRIPES);
+    locked.set(from);
+    locked.set(to);
+
+    lock(locked);
+    try {
+      if (ownerOf(stripes[from], subject, start) != null) {
+        return false;
+      }
+
+      stripes[from].calendar.editEvent(subject, start, updatedEvent, mode);
+      Event edited = (Event) updatedEvent;
+      if (to != from) {
+        stripes[from].calendar.removeEvent(edited);
+        stripes[to].calendar.addEvent(edited);
+      }
+      recordLength(edited);
+      return true;
+    } finally {
+      unlock(locked);
+    }
+  }
+
+  private boolean editInSeries(SeriesCalendar series,
+                               String subject,
+                               LocalDateTime start,
+                               EventInterface updatedEvent,
+                               EditMode mode) {
+    BitSet span = series.span;
+    long shift = updatedEvent == null || updatedEvent.getStartDateTime() == null
+            ? 0 : Duration.between(start, updatedEvent.getStartDateTime()).getSeconds();
+    BitSet locked = reachOf(span, shift);
+
+    lock(locked);
+    try {
+      if (series.span != span
+              || ownerOf(stripes[stripeOf(start.toLocalDate())], subject, start) != series) {
+        return false;
+      }
+
+      // a single edit replaces the event with the updated one, as it does outside a
+      // series, while other edits replace any number of instances
+      List<Event> before = mode == EditMode.SINGLE
+              ? series.calendar.eventsAffectedByEdit(subject, start, mode) : instancesOf(series);
+      // renaming a whole series renames the instances it keeps, which are indexed
+      // under their subject, so they are taken out of the stripes before the edit
+      boolean renamed = mode != EditMode.SINGLE && updatedEvent != null
+              && !subject.equals(updatedEvent.getSubject());
+      if (renamed) {
+        withdraw(series, before);
+      }
+
+      Set<String> subjectsBefore = new HashSet<>(series.calendar.mapSeries.keySet());
+      try {
+        series.calendar.editEvent(subject, start, updatedEvent, mode);
+      } catch (RuntimeException e) {
+        if (renamed) {
+          place(series, before);
+        }
+        throw e;
+      }
+
+      List<Event> after = mode == EditMode.SINGLE
+              ? Collections.singletonList((Event) updatedEvent) : instancesOf(series);
+      Set<Event> indexed = identitySet(renamed ? Collections.emptyList() : before);
+      Set<Event> kept = identitySet(after);
+      List<Event> replaced = new ArrayList<>();
+      for (Event instance : indexed) {
+        if (!kept.contains(instance)) {
+          replaced.add(instance);
+        }
+      }
+      withdraw(series, replaced);
+      kept.removeAll(indexed);
+      place(series, kept);
+      series.span = series.span();
+      renameSeries(subjectsBefore, series.calendar.mapSeries.keySet());
+      return true;
+    } finally {
+      unlock(locked);
+    }
+  }
+
+  private SeriesCalendar ownerOf(Stripe stripe, String subject, LocalDateTime start) {
+    long second = start.toEpochSecond(ZoneOffset.UTC);
+    for (Event e : stripe.calendar.eventsStartingOn(start.toLocalDate())) {
+      SeriesCalendar owner = stripe.owners.get(e);
+      if (owner != null && e.getStartEpochSecond() == second && e.getSubject().equals(subject)) {
+        return owner;
+      }
+    }
+    return null;
+  }
+
+  private void claimSeries(List<LocalDateTime> starts, List<EventSeries> created) {
+    synchronized (seriesSubjects) {
+      Set<String> batchSubjects = new HashSet<>();
+      Set<LocalDateTime> batchStarts = new HashSet<>();
+      for (int i = 0; i < created.size(); i++) {
+        String subject = created.get(i).getSubject();
+        if (seriesSubjects.containsKey(subject) || seriesStarts.contains(starts.get(i))) {
+          throw new IllegalArgumentException(
+                  "Subject and start time cannot be the same as an existing series!"
+          );
+        }
+        if (!batchSubjects.add(subject) || !batchStarts.add(starts.get(i))) {
+          throw new IllegalArgumentException(
+                  "Subject and start time cannot be the same as another series in the batch!"
+          );
+        }
+      }
+
+      for (EventSeries series : created) {
+        seriesSubjects.merge(series.getSubject(), 1, Integer::sum);
+        seriesStarts.add(series.getStartDateTime());
+      }
+    }
+  }
+
+  private void renameSeries(Set<String> before, Set<String> after) {
+    synchronized (seriesSubjects) {
+      for (String subject : before) {
+        if (!after.contains(subject)) {
+          seriesSubjects.computeIfPresent(subject, (s, count) -> count == 1 ? null : count - 1);
+        }
+      }
+      for (String subject : after) {
+        if (!before.contains(subject)) {
+          seriesSubjects.merge(subject, 1, Integer::sum);
+        }
+      }
+    }
+  }
+
+  private void publish(SeriesCalendar series) {
+    List<Event> instances = instancesOf(series);
+    BitSet span = new BitSet(STRIPES);
+    for (Event instance : instances) {
+      span.set(stripeOf(instance.getStartDateTime().toLocalDate()));
+    }
+    lock(span);
+    try {
+      place(series, instances);
+      series.span = series.span();
+    } finally {
+      unlock(span);
+    }
+  }
+
+  private List<Event> instancesOf(SeriesCalendar series) {
+    return series.calendar.getEventsStartingBetween(LocalDate.MIN, LocalDate.MAX);
+  }
+
+  private void place(SeriesCalendar series, Collection<Event> instances) {
+    for (Event instance : instances) {
+      int i = stripeOf(instance.getStartDateTime().toLocalDate());
+      stripes[i].calendar.addEvent(instance);
+      stripes[i].owners.put(instance, series);
+      series.instancesInStripe[i]++;
+      recordLength(instance);
+    }
+  }
+
+  private void withdraw(SeriesCalendar series, Collection<Event> instances) {
+    for (Event instance : instances) {
+      int i = stripeOf(instance.getStartDateTime().toLocalDate());
+      stripes[i].calendar.removeEvent(instance);
+      stripes[i].owners.remove(instance);
+      series.instancesInStripe[i]--;
+    }
+  }
+
+  private static Set<Event> identitySet(Collection<Event> events) {
+    Set<Event> set = Collections.newSetFromMap(new IdentityHashMap<>());
+    set.addAll(events);
+    return set;
+  }
+
+  private List<Calendar> calendarsOf(BitSet weeks) {
+    List<Calendar> calendars = new ArrayList<>(weeks.cardinality());
+    for (int i = weeks.nextSetBit(0); i >= 0; i = weeks.nextSetBit(i + 1)) {
+      calendars.add(stripes[i].calendar);
+    }
+    return calendars;
+  }
+
+  private void recordLength(Event event) {
+    longestEvent.accumulateAndGet(
+            event.getEndEpochSecond() - event.getStartEpochSecond(), Math::max);
+  }
+
+  private void lock(BitSet locked) {
+    for (int i = locked.nextSetBit(0); i >= 0; i = locked.nextSetBit(i + 1)) {
+      stripes[i].lock.writeLock().lock();
+    }
+  }
+
+  private void unlock(BitSet locked) {
+    for (int i = locked.previousSetBit(STRIPES - 1); i >= 0; i = locked.previousSetBit(i - 1)) {
+      stripes[i].lock.writeLock().unlock();
+    }
+  }
+
+  private <T> T read(BitSet weeks, Supplier<T> operation) {
+    for (int i = weeks.nextSetBit(0); i >= 0; i = weeks.nextSetBit(i + 1)) {
+      stripes[i].lock.readLock().lock();
+    }
+    try {
+      return operation.get();
+    } finally {
+      for (int i = weeks.previousSetBit(STRIPES - 1); i >= 0; i = weeks.previousSetBit(i - 1)) {
+        stripes[i].lock.readLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * Gets the stripes the instances of a series spanning the given stripes can start
+   * in after they are all moved by the given number of seconds. Moving an instance
+   * by less than a whole number of weeks lands it in one of two weeks, depending on
+   * the day and time it starts at.
+   */
+  private static BitSet reachOf(BitSet span, long shift) {
+    int weeks = stripeOfWeek(Math.floorDiv(shift, SECONDS_PER_WEEK));
+    BitSet reach = (BitSet) span.clone();
+    for (int i = span.nextSetBit(0); i >= 0; i = span.nextSetBit(i + 1)) {
+      reach.set((i + weeks) % STRIPES);
+      if (shift % SECONDS_PER_WEEK != 0) {
+        reach.set((i + weeks + 1) % STRIPES);
+      }
+    }
+    return reach;
+  }
+
+  private static BitSet weeksOf(LocalDateTime start, LocalDateTime end, long reach) {
+    BitSet weeks = new BitSet(STRIPES);
+    long firstWeek = isoWeekOf(start.minusSeconds(reach).toLocalDate());
+    long lastWeek = isoWeekOf(end.toLocalDate());
+    if (lastWeek < firstWeek) {
+      long swap = firstWeek;
+      firstWeek = lastWeek;
+      lastWeek = swap;
+    }
+    if (lastWeek - firstWeek + 1 >= STRIPES) {
+      weeks.set(0, STRIPES);
+      return weeks;
+    }
+    for (long week = firstWeek; week <= lastWeek; week++) {
+      weeks.set(stripeOfWeek(week));
+    }
+    return weeks;
+  }
+
+  private static int stripeOf(LocalDate date) {
+    return stripeOfWeek(isoWeekOf(date));
+  }
+
+  private static int stripeOfWeek(long week) {
+    return (int) Math.floorMod(week, (long) STRIPES);
+  }
+
+  private static long isoWeekOf(LocalDate date) {
+    return Math.floorDiv(date.toEpochDay() + 3, 7);
+  }
+
+  /**
+   * The calendar and lock of one stripe, and the series owning each of the series
+   * instances indexed in its calendar.
+   */
+  private static final class Stripe {
+    private final Calendar calendar = new Calendar();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Event, SeriesCalendar> owners = new IdentityHashMap<>();
+  }
+
+  /**
+   * The calendar holding one series, along with the series split off from it by
+   * edits to its future instances, and how many of its instances start in each
+   * stripe. Only the stripes answer queries, so the calendar leaves out the
+   * indexes behind them. The counts are only used while those stripes are locked, while the
+   * stripes they add up to are read before locking them.
+   */
+  private static final class SeriesCalendar {
+    private final Calendar calendar = new Calendar(false, false);
+    private final int[] instancesInStripe = new int[STRIPES];
+    private volatile BitSet span = new BitSet(STRIPES);
+
+    private BitSet span() {
+      BitSet span = new BitSet(STRIPES);
+      for (int i = 0; i < STRIPES; i++) {
+        if (instancesInStripe[i] > 0) {
+          span.set(i);
+        }
+      }
+      return span;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package model.event;
+
+import java.time.LocalDateTime;
+
+import model.enums.Location;
+import model.enums.Status;
+
+/**
+ * An event that stores its own subject, description, location, and status
+ * alongside its start and end date times.
+ */
+public class DetailedEvent extends Event {
+  private final String subject;
+  private final String description;
+  private final Location location;
+  private final Status status;
+
+  /**
+   * Constructor that takes in every detail of the event.
+   *
+   * @param subject       the subject that is the unique identifier for the event.
+   * @param startDateTime the start time for the event.
+   * @param endDateTime   the end time for the event, or null if it has none.
+   * @param description   the description of the event.
+   * @param location      the location of the event.
+   * @param status        the status of the event.
+   * @throws IllegalArgumentException if the subject or start time is missing.
+   */
+  DetailedEvent(String subject,
+                LocalDateTime startDateTime,
+                LocalDateTime endDateTime,
+                String description,
+                Location location,
+                Status status) throws IllegalArgumentException {
+    super(startDateTime, endDateTime);
+    if (subject == null || subject.isEmpty()) {
+      throw new IllegalArgumentException("Subject cannot be null or empty");
+    }
+    this.subject = subject;
+    this.description = description;
+    this.location = location;
+    this.status = status;
+  }
+
+  @Override
+  public String getSubject() {
+    return subject;
+  }
+
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  @Override
+  public Location getLocation() {
+    return location;
+  }
+
+  @Override
+  public Status getStatus() {
+    return status;
+  }
+}
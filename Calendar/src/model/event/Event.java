@@ -1,71 +1,70 @@
 package model.event;
 
 import java.time.LocalDateTime;
-
-import model.enums.Location;
-import model.enums.Status;
+import java.time.ZoneOffset;
 
 /**
  * An event class that implements the event interface
  * that acts as an event for the calendar provided with
- * a subject, start date time, end date time, description,
- * location, and status.
+ * a start date time and end date time, leaving where the subject, description,
+ * location, and status of the event come from to its subclasses. The start and
+ * end date times are stored compactly as epoch seconds and only materialized as
+ * LocalDateTime objects when requested, which limits the precision of an event
+ * to the second.
  */
-public class Event implements EventInterface {
-  private final String subject;
-  private final LocalDateTime startDateTime;
-  private LocalDateTime endDateTime;
-  private String description;
-  private Location location;
-  private Status status;
+public abstract class Event implements EventInterface {
+  private static final long NO_END = Long.MIN_VALUE;
+
+  private final long startEpochSecond;
+  private final long endEpochSecond;
 
   /**
-   * Constructor that takes in the subject and start date time
-   * arguments as the minimum necessary arguments for an event.
+   * Constructor that takes in the start and end date times of the event.
    *
-   * @param subject       the subject that is the unique identifier for the event.
    * @param startDateTime the start time for the event.
-   * @throws IllegalArgumentException if any of the parameters given are invalid.
+   * @param endDateTime   the end time for the event, or null if it has none.
+   * @throws IllegalArgumentException if the start time is null.
    */
-  public Event(String subject, LocalDateTime startDateTime) throws IllegalArgumentException {
-    if (subject == null || subject.isEmpty()) {
-      throw new IllegalArgumentException("Subject cannot be null or empty");
-    }
-    this.subject = subject;
+  protected Event(LocalDateTime startDateTime, LocalDateTime endDateTime)
+          throws IllegalArgumentException {
     if (startDateTime == null) {
       throw new IllegalArgumentException("StartDateTime cannot be null");
     }
-    this.startDateTime = startDateTime;
-  }
-
-  @Override
-  public String getSubject() {
-    return subject;
+    this.startEpochSecond = startDateTime.toEpochSecond(ZoneOffset.UTC);
+    this.endEpochSecond = endDateTime == null
+            ? NO_END : endDateTime.toEpochSecond(ZoneOffset.UTC);
   }
 
   @Override
   public LocalDateTime getStartDateTime() {
-    return startDateTime;
+    return LocalDateTime.ofEpochSecond(startEpochSecond, 0, ZoneOffset.UTC);
   }
 
   @Override
   public LocalDateTime getEndDateTime() {
-    return endDateTime;
-  }
-
-  @Override
-  public String getDescription() {
-    return description;
+    if (endEpochSecond == NO_END) {
+      return null;
+    }
+    return LocalDateTime.ofEpochSecond(endEpochSecond, 0, ZoneOffset.UTC);
   }
 
-  @Override
-  public Location getLocation() {
-    return location;
+  /**
+   * Gets the start time of the event as seconds since the epoch of its local time line.
+   *
+   * @return a long based on the start time of the event.
+   */
+  public long getStartEpochSecond() {
+    return startEpochSecond;
   }
 
-  @Override
-  public Status getStatus() {
-    return status;
+  /**
+   * Gets the end time of the event as seconds since the epoch of its local time line,
+   * treating an event without an end time as ending when it starts.
+   *
+   * @return a long based on the end time of the event.
+   */
+  public long getEndEpochSecond() {
+    return endEpochSecond == NO_END ? startEpochSecond : endEpochSecond;
   }
 
   /**
@@ -75,16 +74,27 @@ public class Event implements EventInterface {
    * @return a string describing the details of the event.
    */
   public String printEvent() {
-    String eventString = this.subject
-            + " from "
-            + this.startDateTime.toString()
-            + " to "
-            + this.endDateTime.toString();
+    return appendEvent(new StringBuilder()).toString();
+  }
+
+  /**
+   * Appends the same details as printEvent to the given builder, so that a long
+   * listing of events can be built without a string per event.
+   *
+   * @param builder the builder to append to.
+   * @return the given builder.
+   */
+  public StringBuilder appendEvent(StringBuilder builder) {
+    builder.append(this.getSubject())
+            .append(" from ")
+            .append(this.getStartDateTime())
+            .append(" to ")
+            .append(this.getEndDateTime());
 
-    if (this.location != null) {
-      eventString += " " + this.location;
+    if (this.getLocation() != null) {
+      builder.append(' ').append(this.getLocation());
     }
-    return eventString;
+    return builder;
   }
 
   /**
@@ -98,12 +108,8 @@ public class Event implements EventInterface {
      * @return an event interface based on the details of the event.
      */
     public EventInterface build() {
-      Event event = new Event(this.subject, this.startDateTime);
-      event.description = this.description;
-      event.location = this.location;
-      event.status = this.status;
-      event.endDateTime = this.endDateTime;
-      return event;
+      return new DetailedEvent(this.subject, this.startDateTime, this.endDateTime,
+              this.description, this.location, this.status);
     }
 
     protected CustomEventBuilder returnBuilder() {
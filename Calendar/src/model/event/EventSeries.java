@@ -1,19 +1,33 @@
 package model.event;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
 
 /**
- * An event series that extends the event class and serves as representing
+ * An event series that extends the detailed event class and serves as representing
  * the same events within the same category.
  */
-public class EventSeries extends Event {
+public class EventSeries extends DetailedEvent {
   private List<Event> instances = new ArrayList<>();
   public String subject;
   public List<java.time.DayOfWeek> repeatDays;
   public Integer occurrences;
   public LocalDateTime endDateTimeOfSeries;
+  private Event template;
+  private Event instanceTemplate;
+  private int sharedInstances;
+  private LocalDate lastOccurrenceDate;
+  private final Set<LocalDateTime> detachedStarts = new HashSet<>();
 
   /**
    * Constructor for an event series.
@@ -23,7 +37,7 @@ public class EventSeries extends Event {
    * @param startDateTime the start time for the event series.
    */
   public EventSeries(String subject, LocalDateTime startDateTime) {
-    super(subject, startDateTime);
+    super(subject, startDateTime, null, null, null, null);
   }
 
   /**
@@ -35,6 +49,16 @@ public class EventSeries extends Event {
     this.subject = subject;
   }
 
+  /**
+   * Gets the subject the series is currently known by, which is the subject it
+   * was created with unless the series was renamed through an edit.
+   *
+   * @return a string for the current subject of the series.
+   */
+  public String getSeriesSubject() {
+    return subject != null ? subject : getSubject();
+  }
+
   /**
    * Sets the days of the week which the event should repeat.
    *
@@ -66,7 +90,7 @@ public class EventSeries extends Event {
   }
 
   /**
-   * Gets the amount of instances of the event.
+   * Gets the amount of instances of the event, ordered by their start time.
    *
    * @return a list for every instance of the event occurring.
    */
@@ -80,6 +104,469 @@ public class EventSeries extends Event {
    * @param event the event that will be added to the series.
    */
   public void addInstance(Event event) {
-    this.instances.add(event);
+    this.instances.add(insertionPoint(event.getStartEpochSecond()), event);
+    if (sharesTemplate(event)) {
+      sharedInstances++;
+    }
+  }
+
+  /**
+   * Gets the template whose subject, description, location and status are shared
+   * by the instances created through the series.
+   *
+   * @return the template of the instances, or null if none was set.
+   */
+  public Event getInstanceTemplate() {
+    return instanceTemplate;
+  }
+
+  /**
+   * Sets the template shared by the instances created through the series, which
+   * changes the subject, description, location and status of every instance
+   * sharing it at once.
+   *
+   * @param instanceTemplate the event holding the details shared by the instances.
+   */
+  public void setInstanceTemplate(Event instanceTemplate) {
+    this.instanceTemplate = instanceTemplate;
+  }
+
+  /**
+   * Creates an instance of the series that shares the template of the series,
+   * which must already be set. The instance is not added to the series.
+   *
+   * @param start the start time of the instance.
+   * @param end   the end time of the instance.
+   * @return the instance created.
+   */
+  public SeriesInstance createInstance(LocalDateTime start, LocalDateTime end) {
+    return new SeriesInstance(this, start, end);
+  }
+
+  /**
+   * Determines whether every instance of the series shares the template of the
+   * series, meaning none of them were replaced through an edit.
+   *
+   * @return a boolean based on whether all instances share the template.
+   */
+  public boolean allInstancesShareTemplate() {
+    return sharedInstances == instances.size();
+  }
+
+  /**
+   * Determines whether the given event shares the template of the series.
+   *
+   * @param event the event to be checked.
+   * @return a boolean based on whether the event shares the template.
+   */
+  public boolean sharesTemplate(Event event) {
+    return event instanceof SeriesInstance && ((SeriesInstance) event).sharesTemplateOf(this);
+  }
+
+  /**
+   * Replaces an instance of the series with an updated instance, finding the
+   * old instance through a binary search on its start time and keeping the
+   * instances ordered by their start time.
+   *
+   * @param oldInstance the instance currently within the series.
+   * @param newInstance the instance that takes its place.
+   * @return whether the old instance was part of the series.
+   */
+  public boolean replaceInstance(Event oldInstance, Event newInstance) {
+    int position = indexOfInstance(oldInstance);
+    if (position < 0) {
+      return false;
+    }
+    if (newInstance.getStartEpochSecond() == oldInstance.getStartEpochSecond()) {
+      instances.set(position, newInstance);
+    } else {
+      instances.remove(position);
+      instances.add(insertionPoint(newInstance.getStartEpochSecond()), newInstance);
+    }
+    if (sharesTemplate(oldInstance)) {
+      sharedInstances--;
+    }
+    if (sharesTemplate(newInstance)) {
+      sharedInstances++;
+    }
+    return true;
+  }
+
+  /**
+   * Finds the position of an instance within the instances of the series.
+   *
+   * @param instance the instance to be found.
+   * @return the position of the instance, or -1 if it is not part of the series.
+   */
+  public int indexOfInstance(Event instance) {
+    for (int i = firstInstanceFrom(instance.getStartEpochSecond());
+         i < instances.size() && instances.get(i).getStartEpochSecond()
+                 == instance.getStartEpochSecond(); i++) {
+      if (instances.get(i) == instance) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the instances starting at or after the given time without removing them.
+   *
+   * @param start the time from which instances are returned.
+   * @return a copy of the instances from that time, ordered by their start time.
+   */
+  public List<Event> getInstancesFrom(LocalDateTime start) {
+    return new ArrayList<>(instances.subList(
+            firstInstanceFrom(start.toEpochSecond(ZoneOffset.UTC)), instances.size()));
+  }
+
+  /**
+   * Removes the instances starting at or after the given time from the series,
+   * used to split the series into the instances before and after that time.
+   *
+   * @param start the time from which instances are removed.
+   * @return the instances removed, ordered by their start time.
+   */
+  public List<Event> removeInstancesFrom(LocalDateTime start) {
+    List<Event> tail = instances.subList(
+            firstInstanceFrom(start.toEpochSecond(ZoneOffset.UTC)), instances.size());
+    List<Event> removed = new ArrayList<>(tail);
+    tail.clear();
+    for (Event instance : removed) {
+      if (sharesTemplate(instance)) {
+        sharedInstances--;
+      }
+    }
+    return removed;
+  }
+
+  private int firstInstanceFrom(long start) {
+    int low = 0;
+    int high = instances.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (instances.get(mid).getStartEpochSecond() < start) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private int insertionPoint(long start) {
+    int low = 0;
+    int high = instances.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (instances.get(mid).getStartEpochSecond() > start) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Switches the series into lazy recurrence where occurrences are generated on
+   * demand from the template rather than stored. The repeat days, occurrences and
+   * end date time of the series must already be set, and only the instances that
+   * were detached through an edit are kept within the instances of the series.
+   *
+   * @param template the event describing the first occurrence of the series.
+   */
+  public void setTemplate(Event template) {
+    this.template = template;
+    this.lastOccurrenceDate = computeLastOccurrenceDate();
+  }
+
+  /**
+   * Determines whether the series generates its occurrences on demand.
+   *
+   * @return a boolean based on whether the series is lazy.
+   */
+  public boolean isLazy() {
+    return template != null;
+  }
+
+  /**
+   * Gets an event spanning from the start of the first occurrence of a lazy
+   * series to the end of its last occurrence, which every generated occurrence
+   * lies within.
+   *
+   * @return the span of the occurrences, or null if the series is not lazy or has
+   *         no occurrences.
+   */
+  public Event getOccurrenceSpan() {
+    if (!isLazy() || lastOccurrenceDate == null) {
+      return null;
+    }
+    LocalDateTime lastStart = lastOccurrenceDate.atTime(template.getStartDateTime().toLocalTime());
+    return (Event) new Event.CustomEventBuilder()
+            .setSubject(template.getSubject())
+            .setStartDateTime(template.getStartDateTime())
+            .setEndDateTime(lastStart.plus(duration()))
+            .build();
+  }
+
+  /**
+   * Generates the occurrences of a lazy series that overlap the closed window
+   * from start to end, ordered by their start time. Occurrences detached by an
+   * edit are left out.
+   *
+   * @param start the starting time for the window.
+   * @param end   the ending time for the window.
+   * @return a list of the generated occurrences within the window.
+   */
+  public List<Event> getOccurrences(LocalDateTime start, LocalDateTime end) {
+    List<Event> occurrences = new ArrayList<>();
+    if (!isLazy() || lastOccurrenceDate == null) {
+      return occurrences;
+    }
+
+    LocalDate firstDate = template.getStartDateTime().toLocalDate();
+    LocalDate from = start.minus(duration()).toLocalDate();
+    if (from.isBefore(firstDate)) {
+      from = firstDate;
+    }
+    LocalDate to = end.toLocalDate();
+    if (to.isAfter(lastOccurrenceDate)) {
+      to = lastOccurrenceDate;
+    }
+
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      Event occurrence = occurrenceOn(date);
+      if (occurrence != null
+              && !occurrence.getStartDateTime().isAfter(end)
+              && !occurrence.getEndDateTime().isBefore(start)) {
+        occurrences.add(occurrence);
+      }
+    }
+    return occurrences;
+  }
+
+  /**
+   * Generates the occurrence of a lazy series starting at the given time.
+   *
+   * @param start the start time of the occurrence.
+   * @return the occurrence, or null if the series does not occur at that time.
+   */
+  public Event getOccurrence(LocalDateTime start) {
+    if (!isLazy() || lastOccurrenceDate == null
+            || !start.toLocalTime().equals(template.getStartDateTime().toLocalTime())
+            || start.toLocalDate().isBefore(template.getStartDateTime().toLocalDate())
+            || start.toLocalDate().isAfter(lastOccurrenceDate)) {
+      return null;
+    }
+    return occurrenceOn(start.toLocalDate());
+  }
+
+  /**
+   * Stops generating the occurrence starting at the given time, used once the
+   * occurrence has been edited and is stored as an instance of its own.
+   *
+   * @param start the start time of the occurrence.
+   */
+  public void detachOccurrence(LocalDateTime start) {
+    detachedStarts.add(start);
+  }
+
+  /**
+   * Gets the template a lazy series generates its occurrences from.
+   *
+   * @return the template of the occurrences, or null if the series is not lazy.
+   */
+  public Event getTemplate() {
+    return template;
+  }
+
+  /**
+   * Determines whether a lazy series generates an occurrence starting before the
+   * given time, leaving out the occurrences detached by an edit.
+   *
+   * @param start the time to be checked against.
+   * @return a boolean based on whether an occurrence starts before the time.
+   */
+  public boolean hasOccurrenceBefore(LocalDateTime start) {
+    if (!isLazy() || lastOccurrenceDate == null) {
+      return false;
+    }
+    LocalTime time = template.getStartDateTime().toLocalTime();
+    for (LocalDate date = template.getStartDateTime().toLocalDate();
+         !date.isAfter(lastOccurrenceDate) && date.atTime(time).isBefore(start);
+         date = date.plusDays(1)) {
+      if (repeatDays.contains(date.getDayOfWeek())
+              && !detachedStarts.contains(date.atTime(time))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces the template of a lazy series with one that may start at another
+   * time, moving every occurrence by the same amount, including the detached ones.
+   * When the occurrences move to other days, the repeat days and the end of the
+   * series move with them.
+   *
+   * @param movedTemplate the template taking the place of the current template.
+   */
+  public void moveTemplate(Event movedTemplate) {
+    LocalDateTime from = template.getStartDateTime();
+    LocalDateTime to = movedTemplate.getStartDateTime();
+    long dayShift = ChronoUnit.DAYS.between(from.toLocalDate(), to.toLocalDate());
+    if (dayShift != 0) {
+      List<DayOfWeek> movedDays = new ArrayList<>(repeatDays.size());
+      for (DayOfWeek day : repeatDays) {
+        movedDays.add(day.plus(dayShift));
+      }
+      repeatDays = movedDays;
+      if (endDateTimeOfSeries != null) {
+        endDateTimeOfSeries = endDateTimeOfSeries.plusDays(dayShift);
+      }
+      if (lastOccurrenceDate != null) {
+        lastOccurrenceDate = lastOccurrenceDate.plusDays(dayShift);
+      }
+    }
+
+    Duration shift = Duration.between(from, to);
+    if (!shift.isZero()) {
+      List<LocalDateTime> detached = new ArrayList<>(detachedStarts);
+      detachedStarts.clear();
+      for (LocalDateTime start : detached) {
+        detachedStarts.add(start.plus(shift));
+      }
+    }
+    template = movedTemplate;
+  }
+
+  /**
+   * Splits a lazy series at the given time, handing the occurrences starting at or
+   * after that time to the given series, which becomes lazy with the same rule
+   * from the first of those occurrences on. The given series stays as it is if no
+   * occurrence of the rule starts at or after that time. Stored instances are not
+   * moved.
+   *
+   * @param start the time from which occurrences are handed on.
+   * @param tail  the series taking over the later occurrences.
+   */
+  public void moveOccurrencesFrom(LocalDateTime start, EventSeries tail) {
+    LocalDate firstDate = template.getStartDateTime().toLocalDate();
+    LocalTime time = template.getStartDateTime().toLocalTime();
+    LocalDate splitDate = start.toLocalDate();
+    if (splitDate.atTime(time).isBefore(start)) {
+      splitDate = splitDate.plusDays(1);
+    }
+    if (splitDate.isBefore(firstDate)) {
+      splitDate = firstDate;
+    }
+
+    LocalDate next = splitDate;
+    while (next.isBefore(splitDate.plusWeeks(1)) && !repeatDays.contains(next.getDayOfWeek())) {
+      next = next.plusDays(1);
+    }
+    LocalDate previous = splitDate.minusDays(1);
+    while (!previous.isBefore(firstDate) && !repeatDays.contains(previous.getDayOfWeek())) {
+      previous = previous.minusDays(1);
+    }
+
+    tail.repeatDays = repeatDays;
+    tail.endDateTimeOfSeries = endDateTimeOfSeries;
+    if (lastOccurrenceDate != null && !next.isAfter(lastOccurrenceDate)) {
+      tail.template = (Event) new Event.CustomEventBuilder()
+              .setSubject(template.getSubject())
+              .setStartDateTime(next.atTime(time))
+              .setEndDateTime(next.atTime(time).plus(duration()))
+              .setDescription(template.getDescription())
+              .setLocation(template.getLocation())
+              .setStatus(template.getStatus())
+              .build();
+      tail.lastOccurrenceDate = lastOccurrenceDate;
+      tail.occurrences = occurrences == null ? null : countDates(next, lastOccurrenceDate);
+
+      for (LocalDateTime detached : detachedStarts) {
+        if (!detached.isBefore(start)) {
+          tail.detachedStarts.add(detached);
+        }
+      }
+      detachedStarts.removeAll(tail.detachedStarts);
+    }
+
+    if (previous.isBefore(firstDate) || lastOccurrenceDate == null) {
+      lastOccurrenceDate = null;
+      occurrences = occurrences == null ? null : 0;
+    } else if (previous.isBefore(lastOccurrenceDate)) {
+      lastOccurrenceDate = previous;
+      occurrences = occurrences == null ? null : countDates(firstDate, previous);
+    }
+  }
+
+  private int countDates(LocalDate from, LocalDate to) {
+    long weeks = ChronoUnit.WEEKS.between(from, to.plusDays(1));
+    int count = (int) weeks * EnumSet.copyOf(repeatDays).size();
+    for (LocalDate date = from.plusWeeks(weeks); !date.isAfter(to); date = date.plusDays(1)) {
+      if (repeatDays.contains(date.getDayOfWeek())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private Event occurrenceOn(LocalDate date) {
+    if (!repeatDays.contains(date.getDayOfWeek())) {
+      return null;
+    }
+
+    LocalDateTime occurrenceStart = date.atTime(template.getStartDateTime().toLocalTime());
+    if (detachedStarts.contains(occurrenceStart)) {
+      return null;
+    }
+
+    return (Event) new Event.CustomEventBuilder()
+            .setSubject(template.getSubject())
+            .setStartDateTime(occurrenceStart)
+            .setEndDateTime(occurrenceStart.plus(duration()))
+            .setDescription(template.getDescription())
+            .setLocation(template.getLocation())
+            .setStatus(template.getStatus())
+            .build();
+  }
+
+  private Duration duration() {
+    return Duration.between(template.getStartDateTime(), template.getEndDateTime());
+  }
+
+  private LocalDate computeLastOccurrenceDate() {
+    LocalDate firstDate = template.getStartDateTime().toLocalDate();
+
+    if (occurrences == null) {
+      LocalDate last = null;
+      LocalDate untilDate = endDateTimeOfSeries.toLocalDate();
+      for (DayOfWeek day : repeatDays) {
+        LocalDate latest = untilDate.minusDays(
+                Math.floorMod(untilDate.getDayOfWeek().getValue() - day.getValue(), 7));
+        if (!latest.isBefore(firstDate) && (last == null || latest.isAfter(last))) {
+          last = latest;
+        }
+      }
+      return last;
+    }
+
+    if (occurrences <= 0) {
+      return null;
+    }
+
+    List<Integer> offsets = new ArrayList<>();
+    for (int offset = 0; offset < 7; offset++) {
+      DayOfWeek day = firstDate.plusDays(offset).getDayOfWeek();
+      if (repeatDays.contains(day)) {
+        offsets.add(offset);
+      }
+    }
+
+    int index = occurrences - 1;
+    return firstDate.plusWeeks(index / offsets.size())
+            .plusDays(offsets.get(index % offsets.size()));
   }
 }
@@ -0,0 +1,58 @@
+package model.event;
+
+import java.time.LocalDateTime;
+
+import model.enums.Location;
+import model.enums.Status;
+
+/**
+ * An instance of an event series that only stores its own start and end times
+ * and the series it belongs to, and reads its subject, description, location and
+ * status from the template shared by every instance of the series, so that
+ * changing those details for the whole series only requires swapping the template.
+ */
+public class SeriesInstance extends Event {
+  private final EventSeries series;
+
+  /**
+   * Constructor for an instance of an event series.
+   *
+   * @param series        the series whose template the instance shares.
+   * @param startDateTime the start time for the instance.
+   * @param endDateTime   the end time for the instance.
+   */
+  SeriesInstance(EventSeries series, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    super(startDateTime, endDateTime);
+    this.series = series;
+  }
+
+  /**
+   * Determines whether the instance shares the template of the given series.
+   *
+   * @param series the series to be checked.
+   * @return a boolean based on whether the instance belongs to the series.
+   */
+  public boolean sharesTemplateOf(EventSeries series) {
+    return this.series == series;
+  }
+
+  @Override
+  public String getSubject() {
+    return series.getInstanceTemplate().getSubject();
+  }
+
+  @Override
+  public String getDescription() {
+    return series.getInstanceTemplate().getDescription();
+  }
+
+  @Override
+  public Location getLocation() {
+    return series.getInstanceTemplate().getLocation();
+  }
+
+  @Override
+  public Status getStatus() {
+    return series.getInstanceTemplate().getStatus();
+  }
+}
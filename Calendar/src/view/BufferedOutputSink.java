@@ -0,0 +1,65 @@
+package view;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * A sink that collects lines in a buffer and writes them out once a given
+ * number of commands has finished, so that replaying a long script does not
+ * write to the stream for every line of a large query.
+ */
+public class BufferedOutputSink implements OutputSink {
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Writer out;
+  private final int commandsPerFlush;
+  private int commands;
+
+  /**
+   * Constructor for a buffered sink.
+   *
+   * @param out              the stream the lines are written to.
+   * @param charset          the charset the lines are encoded in.
+   * @param commandsPerFlush the number of commands whose output is written at once,
+   *                         where 1 writes the output of every command as it ends.
+   * @throws IllegalArgumentException if the number of commands is not positive.
+   */
+  public BufferedOutputSink(OutputStream out, Charset charset, int commandsPerFlush) {
+    if (commandsPerFlush < 1) {
+      throw new IllegalArgumentException("Commands per flush must be positive.");
+    }
+    this.out = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+    this.commandsPerFlush = commandsPerFlush;
+  }
+
+  @Override
+  public void println(CharSequence line) {
+    try {
+      out.append(line).append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void endCommand() {
+    if (++commands >= commandsPerFlush) {
+      flush();
+    }
+  }
+
+  @Override
+  public void flush() {
+    commands = 0;
+    try {
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package view;
 
+import java.io.PrintStream;
 import java.util.List;
 
 import model.event.Event;
@@ -10,25 +11,83 @@ import model.event.Event;
  * calendar.
  */
 public class CalendarView implements CalendarViewInterface {
+  private final OutputSink out;
+  private final StringBuilder line = new StringBuilder();
+
+  /**
+   * Constructor for a view that displays to the standard output.
+   */
+  public CalendarView() {
+    this(System.out);
+  }
+
+  /**
+   * Constructor for a view that displays to the given stream, such as the
+   * connection of a client of the calendar server.
+   *
+   * @param out the stream the view prints to.
+   */
+  public CalendarView(PrintStream out) {
+    this(new PrintStreamSink(out));
+  }
+
+  /**
+   * Constructor for a view that displays to the given sink, which may batch
+   * the output of several commands.
+   *
+   * @param out the sink the view prints to.
+   */
+  public CalendarView(OutputSink out) {
+    this.out = out;
+  }
+
   @Override
   public void printEvents(List<Event> events, String day) {
+    line.setLength(0);
     if (events.isEmpty()) {
-      System.out.println("No events found on " + day);
+      out.println(line.append("No events found on ").append(day));
     } else {
-      System.out.println("Events found on " + day + ":");
+      out.println(line.append("Events found on ").append(day).append(':'));
       for (Event event : events) {
-        System.out.println("*  " + event.printEvent());
+        line.setLength(0);
+        out.println(event.appendEvent(line.append("*  ")));
       }
     }
   }
 
   @Override
   public void printStatus(String status, String day) {
-    System.out.println(status + " on " + day);
+    line.setLength(0);
+    out.println(line.append(status).append(" on ").append(day));
   }
 
   @Override
   public void printError(String message) {
-    System.out.println(message);
+    out.println(message);
+  }
+
+  /**
+   * Displays a line of output that was produced by another view, such as a view
+   * that captured the output of a command run on another thread.
+   *
+   * @param line the line to display.
+   */
+  public void printLine(CharSequence line) {
+    out.println(line);
+  }
+
+  /**
+   * Marks the end of the output of one command, which lets a batching sink
+   * write out the output of the commands so far.
+   */
+  public void endCommand() {
+    out.endCommand();
+  }
+
+  /**
+   * Writes out all the output printed so far.
+   */
+  public void flush() {
+    out.flush();
   }
 }
@@ -0,0 +1,26 @@
+package view;
+
+/**
+ * A destination for the lines the console view prints. A sink may hold lines
+ * back and write them in batches, so the view marks where the output of each
+ * command ends and the controller flushes the sink when it stops reading
+ * commands.
+ */
+public interface OutputSink {
+  /**
+   * Prints a line of output.
+   *
+   * @param line the line to print, without a line break.
+   */
+  void println(CharSequence line);
+
+  /**
+   * Marks the end of the output of one command.
+   */
+  void endCommand();
+
+  /**
+   * Writes out every line printed so far.
+   */
+  void flush();
+}
@@ -0,0 +1,35 @@
+package view;
+
+import java.io.PrintStream;
+
+/**
+ * A sink that prints every line to a stream as soon as it is printed, which is
+ * what an interactive user expects.
+ */
+public class PrintStreamSink implements OutputSink {
+  private final PrintStream out;
+
+  /**
+   * Constructor for a sink that prints to the given stream.
+   *
+   * @param out the stream to print to.
+   */
+  public PrintStreamSink(PrintStream out) {
+    this.out = out;
+  }
+
+  @Override
+  public void println(CharSequence line) {
+    out.append(line).println();
+  }
+
+  @Override
+  public void endCommand() {
+    // Lines are printed as soon as they arrive.
+  }
+
+  @Override
+  public void flush() {
+    out.flush();
+  }
+}
@@ -4,13 +4,22 @@ import org.junit.Before;
 import org.junit.Test;
 
 import controller.CalendarController;
+import controller.Command;
+import controller.QueryCommand;
 import model.calendar.CalendarManagement;
+import view.BufferedOutputSink;
 import view.CalendarView;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -106,6 +115,84 @@ public class CalendarControllerTest {
     }
   }
 
+  @Test
+  public void testHeadlessLineBreaks() throws IOException {
+    Path tempFile = Files.createTempFile("line_breaks", ".txt");
+    Files.writeString(tempFile, "create calendar --name Work --timezone America/New_York\r\n"
+            + "\r\n   use calendar --name Work\r"
+            + "create event \"Caf\u00e9\" from 2025-08-10T09:00 to 2025-08-10T10:00\n"
+            + "print events on 2025-08-10\n"
+            + "exit", StandardCharsets.UTF_8);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CalendarController headless = new CalendarController(new CalendarManagement(),
+            new CalendarView(new PrintStream(output, true, StandardCharsets.UTF_8)));
+
+    headless.play(new String[]{"program", "headless", tempFile.toString()});
+
+    assertEquals("Events found on 2025-08-10:" + System.lineSeparator()
+            + "*  Caf\u00e9 from 2025-08-10T09:00 to 2025-08-10T10:00" + System.lineSeparator(),
+            output.toString(StandardCharsets.UTF_8));
+    Files.deleteIfExists(tempFile);
+  }
+
+  @Test
+  public void testBufferedViewWritesAfterCommands() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CalendarView view = new CalendarView(
+            new BufferedOutputSink(output, StandardCharsets.UTF_8, 2));
+
+    view.printStatus("Busy", "2025-08-10T09:00");
+    view.endCommand();
+    assertEquals("", output.toString(StandardCharsets.UTF_8));
+
+    view.printError("No calendar selected.");
+    view.endCommand();
+    assertEquals("Busy on 2025-08-10T09:00" + System.lineSeparator()
+            + "No calendar selected." + System.lineSeparator(),
+            output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testParallelAndPipelinedMatchHeadless() throws IOException {
+    Path tempFile = Files.createTempFile("parallel_script", ".txt");
+    try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(tempFile))) {
+      writer.println("print events on 2025-08-10");
+      writer.println("create calendar --name Work --timezone America/New_York");
+      writer.println("create calendar --name Home --timezone America/New_York");
+      for (int day = 10; day < 20; day++) {
+        writer.println("use calendar --name Work");
+        writer.println("create event \"Review\" from 2025-08-" + day + "T09:00"
+                + " to 2025-08-" + day + "T10:00");
+        writer.println("use calendar --name Home");
+        writer.println("create event \"Dinner\" from 2025-08-" + day + "T18:00"
+                + " to 2025-08-" + day + "T19:00");
+        writer.println("print events on 2025-08-" + day);
+      }
+      writer.println("use calendar --name Gym");
+      writer.println("use calendar --name Work");
+      writer.println("copy events on 2025-08-12 --target Home to 2025-08-13");
+      writer.println("edit calendar --name Home --property name House");
+      writer.println("use calendar --name House");
+      writer.println("print events from 2025-08-12T00:00 to 2025-08-14T00:00");
+      writer.println("show status on 2025-08-13T09:30");
+      writer.println("exit");
+    }
+
+    String parallel = runScript("parallel", tempFile);
+    assertEquals(runScript("headless", tempFile), parallel);
+    assertEquals(parallel, runScript("pipelined", tempFile));
+    assertTrue(parallel.endsWith("Busy on 2025-08-13T09:30" + System.lineSeparator()));
+    Files.deleteIfExists(tempFile);
+  }
+
+  private static String runScript(String mode, Path script) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CalendarController headless = new CalendarController(new CalendarManagement(true),
+            new CalendarView(new PrintStream(output, true, StandardCharsets.UTF_8)));
+    headless.play(new String[]{"program", mode, script.toString()});
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
   @Test
   public void testGUIStart() {
     try {
@@ -115,4 +202,17 @@ public class CalendarControllerTest {
       fail("GUI mode should start without exceptions: " + e.getMessage());
     }
   }
+
+  @Test
+  public void testCommandValidators() {
+    Command command = new QueryCommand("", "", new CalendarManagement(), new CalendarView());
+    assertTrue(command.isValidDateTime("2025-08-10T09:00"));
+    assertFalse(command.isValidDateTime("2025-08-10 09:00"));
+    assertFalse(command.isValidDateTime(null));
+    assertTrue(command.isValidDate("2025-08-10"));
+    assertFalse(command.isValidDate("2025/08/10"));
+    assertTrue(command.isValidWeekdayFormat("MTWRFSU"));
+    assertFalse(command.isValidWeekdayFormat("MX"));
+    assertFalse(command.isValidWeekdayFormat("M\u00e9"));
+  }
 }
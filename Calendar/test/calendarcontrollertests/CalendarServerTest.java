@@ -0,0 +1,108 @@
+package calendarcontrollertests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import controller.CalendarServer;
+import model.calendar.CalendarManagement;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A JUnit test that tests the commands sent to the calendar server.
+ */
+public class CalendarServerTest {
+  private ServerSocket socket;
+  private CalendarServer server;
+  private Thread serverThread;
+
+  @Before
+  public void setup() throws IOException {
+    socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+    server = new CalendarServer(new CalendarManagement(true));
+    serverThread = new Thread(() -> {
+      try {
+        server.serve(socket);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    serverThread.start();
+  }
+
+  @After
+  public void teardown() throws Exception {
+    socket.close();
+    serverThread.join();
+  }
+
+  @Test
+  public void testConnectionsSelectCalendarsIndependently() throws IOException {
+    try (Socket first = connect(); Socket second = connect()) {
+      PrintWriter firstOut = writer(first);
+      BufferedReader firstIn = reader(first);
+      PrintWriter secondOut = writer(second);
+      BufferedReader secondIn = reader(second);
+
+      firstOut.println("create calendar --name Work --timezone America/New_York");
+      firstOut.println("create calendar --name Home --timezone America/New_York");
+      firstOut.println("use calendar --name Work");
+      firstOut.println("create event \"Review\" from 2025-08-10T09:00 to 2025-08-10T10:00");
+      firstOut.println("print events on 2025-08-10");
+      assertEquals("Events found on 2025-08-10:", firstIn.readLine());
+      assertEquals("*  Review from 2025-08-10T09:00 to 2025-08-10T10:00", firstIn.readLine());
+
+      secondOut.println("use calendar --name Home");
+      secondOut.println("print events on 2025-08-10");
+      assertEquals("No events found on 2025-08-10", secondIn.readLine());
+
+      firstOut.println("show status on 2025-08-10T09:30");
+      assertEquals("Busy on 2025-08-10T09:30", firstIn.readLine());
+
+      firstOut.println("exit");
+      secondOut.println("exit");
+      assertEquals(null, firstIn.readLine());
+      assertEquals(null, secondIn.readLine());
+    }
+    assertEquals(8, server.getCommandsProcessed());
+  }
+
+  @Test
+  public void testFailedCommandKeepsConnectionOpen() throws IOException {
+    try (Socket client = connect()) {
+      PrintWriter out = writer(client);
+      BufferedReader in = reader(client);
+
+      out.println("launch rocket");
+      assertEquals("Invalid command.", in.readLine());
+      out.println("create calendar --name Work --timezone America/New_York");
+      out.println("use calendar --name Work");
+      out.println("print events on 2025-08-10");
+      assertEquals("No events found on 2025-08-10", in.readLine());
+      out.println("exit");
+    }
+  }
+
+  private Socket connect() throws IOException {
+    return new Socket(InetAddress.getLoopbackAddress(), socket.getLocalPort());
+  }
+
+  private static PrintWriter writer(Socket client) throws IOException {
+    return new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8);
+  }
+
+  private static BufferedReader reader(Socket client) throws IOException {
+    return new BufferedReader(new InputStreamReader(client.getInputStream(),
+            StandardCharsets.UTF_8));
+  }
+}
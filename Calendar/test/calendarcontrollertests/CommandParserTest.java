@@ -0,0 +1,83 @@
+package calendarcontrollertests;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import controller.CommandParser;
+import controller.ParsedCommand;
+import controller.ParsedCommand.Kind;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * A JUnit test that tests the parsing of the text command language.
+ */
+public class CommandParserTest {
+
+  @Test
+  public void testParseCreateCommands() {
+    ParsedCommand calendar = CommandParser.parse(
+            "create calendar --name My --timezone Cal --timezone America/New_York");
+    assertEquals(Kind.CREATE_CALENDAR, calendar.getKind());
+    assertEquals("My --timezone Cal", calendar.getName());
+    assertEquals("America/New_York", calendar.getValue());
+
+    ParsedCommand allDay = CommandParser.parse("create event \"Standup\" on 2025-08-10");
+    assertEquals(Kind.CREATE_EVENT, allDay.getKind());
+    assertEquals(LocalDateTime.of(2025, 8, 10, 8, 0), allDay.getStart());
+    assertEquals(LocalDateTime.of(2025, 8, 10, 17, 0), allDay.getEnd());
+
+    ParsedCommand series = CommandParser.parse("create event \"Gym\" from 2025-08-10T09:00"
+            + " to 2025-08-10T10:00 repeats MRU for 4 times");
+    assertEquals(Kind.CREATE_SERIES_TIMES, series.getKind());
+    assertEquals(List.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.SUNDAY),
+            series.getRepeatDays());
+    assertEquals(4, series.getOccurrences());
+
+    ParsedCommand until = CommandParser.parse(
+            "create event \"Gym\" on 2025-08-10 repeats W until 2025-09-01");
+    assertEquals(Kind.CREATE_SERIES_UNTIL, until.getKind());
+    assertEquals(LocalDate.of(2025, 9, 1), until.getEndDate());
+  }
+
+  @Test
+  public void testParseEditAndCopyCommands() {
+    ParsedCommand edit = CommandParser.parse("edit event location \"Review\" from"
+            + " 2025-08-10T09:00 to 2025-08-10T10:00 with Room 4");
+    assertEquals(Kind.EDIT_EVENT, edit.getKind());
+    assertEquals("location", edit.getProperty());
+    assertEquals("Review", edit.getSubject());
+    assertEquals("Room 4", edit.getValue());
+
+    ParsedCommand calendar = CommandParser.parse(
+            "edit calendar --name Work --property timezone Europe/Paris");
+    assertEquals(Kind.EDIT_CALENDAR, calendar.getKind());
+    assertEquals("Work", calendar.getName());
+    assertEquals("timezone", calendar.getProperty());
+    assertEquals("Europe/Paris", calendar.getValue());
+
+    ParsedCommand copy = CommandParser.parse(
+            "copy events between 2025-08-01 and 2025-08-31 --target Home to 2025-10-01");
+    assertEquals(Kind.COPY_WINDOW, copy.getKind());
+    assertEquals("Home", copy.getTarget());
+    assertEquals(LocalDate.of(2025, 10, 1), copy.getTargetDate());
+  }
+
+  @Test
+  public void testParseInvalidCommands() {
+    assertEquals(Kind.INVALID, CommandParser.parse("launch rocket").getKind());
+    assertEquals(Kind.INVALID,
+            CommandParser.parse("print events on 2025-08-10 extra").getKind());
+    assertEquals(Kind.INVALID, CommandParser.parse(
+            "create event \"Gym\" on 2025-08-10 repeats a until 2025-09-01").getKind());
+
+    ParsedCommand missingDay = CommandParser.parse("print events on 2025-02-30");
+    assertEquals(Kind.PRINT_DAY, missingDay.getKind());
+    assertNull(missingDay.getDate());
+  }
+}
@@ -356,4 +356,22 @@ public class CalendarControllerCopyEventTest extends AbstractControllerEventTest
     assertEquals("* Event One from 2025-12-20T15:00 to 2025-12-20T16:00", allLines.get(2));
     assertEquals("* Event Three from 2025-12-20T18:00 to 2025-12-20T20:00", allLines.get(3));
   }
+
+  @Test
+  public void testCopyEventsBetweenIncludesEventsRunningIntoRange() {
+    new CreateCommand(" event \"Conference\" from 2025-12-11T08:00 to 2025-12-12T09:00",
+            calendarManagement, calendarView).execute();
+    new CreateCommand(" event \"Morning\" from 2025-12-12T10:00 to 2025-12-12T11:00",
+            calendarManagement, calendarView).execute();
+
+    new CopyEventCommand(" events between 2025-12-12 and 2025-12-13 "
+            + "--target dupeTimeZone to 2025-12-20", calendarManagement, calendarView).execute();
+
+    calendarManagement.selectCalendar("dupeTimeZone");
+    List<Event> copied = calendarManagement.getSelectedCalendar()
+            .getEventsSingleDay(LocalDate.of(2025, 12, 20));
+    assertEquals(2, copied.size());
+    assertEquals("Conference", copied.get(0).getSubject());
+    assertEquals("Morning", copied.get(1).getSubject());
+  }
 }
@@ -193,4 +193,21 @@ public class CalendarControllerEditEventTest extends AbstractControllerEventTest
     assertEquals("2025-06-25T07:00", eventSeriesEvent6.getStartDateTime().toString());
     assertEquals("2025-06-25T08:00", eventSeriesEvent6.getEndDateTime().toString());
   }
+
+  @Test
+  public void testEditEndTime() {
+    LocalDateTime start = LocalDateTime.of(2025, 8, 10, 9, 0);
+    new CreateCommand(" event \"Review\" from 2025-08-10T09:00 to 2025-08-10T10:00",
+            calendarManagement, calendarView).execute();
+
+    new EditCommand(" event end \"Review\" from 2025-08-10T09:00 to 2025-08-10T10:00"
+            + " with 2025-08-10T10:30:15", calendarManagement, calendarView).execute();
+    assertEquals(LocalDateTime.of(2025, 8, 10, 10, 30, 15), calendarManagement
+            .getSelectedCalendar().getEvent("Review", start, null).getEndDateTime());
+
+    new EditCommand(" events end \"Review\" from 2025-08-10T09:00 with tomorrow",
+            calendarManagement, calendarView).execute();
+    assertEquals(LocalDateTime.of(2025, 8, 10, 10, 30, 15), calendarManagement
+            .getSelectedCalendar().getEvent("Review", start, null).getEndDateTime());
+  }
 }
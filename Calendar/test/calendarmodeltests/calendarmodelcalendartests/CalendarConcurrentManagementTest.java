@@ -0,0 +1,108 @@
+package calendarmodeltests.calendarmodelcalendartests;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.calendar.CalendarManagement;
+import model.calendar.LockedCalendar;
+import model.enums.EditMode;
+import model.event.Event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test for sharing a calendar management between sessions and threads.
+ */
+public class CalendarConcurrentManagementTest {
+  private CalendarManagement calendarManagement;
+
+  @Before
+  public void setup() {
+    calendarManagement = new CalendarManagement(true);
+    calendarManagement.createCalendar("Work", ZoneId.of("America/New_York"));
+    calendarManagement.createCalendar("Home", ZoneId.of("Europe/London"));
+  }
+
+  @Test
+  public void testSessionsKeepTheirOwnSelection() {
+    CalendarManagement first = calendarManagement.openSession();
+    CalendarManagement second = calendarManagement.openSession();
+
+    first.selectCalendar("Work");
+    second.selectCalendar("Home");
+    assertTrue(first.getSelectedCalendar() instanceof LockedCalendar);
+    assertEquals(ZoneId.of("America/New_York"), first.getCalendarTimezone(null));
+    assertEquals(ZoneId.of("Europe/London"), second.getCalendarTimezone(null));
+    assertNull(calendarManagement.getSelectedCalendar());
+
+    second.editCalendar("Work", "name", "Office");
+    assertEquals(ZoneId.of("America/New_York"), first.getCalendarTimezone(null));
+    second.selectCalendar("Office");
+    assertSame(first.getSelectedCalendar(), second.getSelectedCalendar());
+    assertNull(calendarManagement.getCalendar("Work"));
+    assertSame(first.getSelectedCalendar(), calendarManagement.getCalendar("Office"));
+
+    second.editCalendar("Office", "timezone", "Asia/Tokyo");
+    assertEquals(ZoneId.of("Asia/Tokyo"), first.getCalendarTimezone(null));
+  }
+
+  @Test
+  public void testParallelWritersAndReaders() throws Exception {
+    CalendarManagement session = calendarManagement.openSession();
+    session.selectCalendar("Work");
+    LocalDate day = LocalDate.of(2025, 5, 5);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int thread = 0; thread < 4; thread++) {
+      int offset = thread;
+      tasks.add(executor.submit(() -> {
+        for (int i = 0; i < 100; i++) {
+          LocalDateTime start = day.atTime(8, 0).plusMinutes(i * 4 + offset);
+          session.getSelectedCalendar().createEvent("Task " + offset, start,
+                  start.plusMinutes(1), null, null, null);
+          session.getSelectedCalendar().getEventsSingleDay(day);
+        }
+      }));
+    }
+    for (Future<?> task : tasks) {
+      task.get();
+    }
+    executor.shutdown();
+
+    assertEquals(400, session.getSelectedCalendar().getEventsSingleDay(day).size());
+  }
+
+  @Test
+  public void testListingKeepsDetailsAfterSeriesEdit() {
+    CalendarManagement session = calendarManagement.openSession();
+    session.selectCalendar("Work");
+    LocalDateTime first = LocalDateTime.of(2025, 6, 2, 9, 0);
+    session.getSelectedCalendar().createEventSeries("Standup", first, first.plusMinutes(15),
+            List.of(DayOfWeek.MONDAY), 3, null, null, null);
+
+    List<Event> listed = session.getSelectedCalendar().getEventsSingleDay(first.toLocalDate());
+    session.getSelectedCalendar().editEvent("Standup", first, new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(first)
+            .setEndDateTime(first.plusMinutes(15))
+            .build(), EditMode.ALL);
+
+    assertEquals("Standup", listed.get(0).getSubject());
+    assertEquals("Sync", session.getSelectedCalendar()
+            .getEventsSingleDay(first.toLocalDate()).get(0).getSubject());
+  }
+}
@@ -8,6 +8,7 @@ import java.time.ZoneId;
 import model.calendar.CalendarManagement;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 
 /**
@@ -89,4 +90,24 @@ public class CalendarEditCalendarTest {
       calendarManagement.editCalendar(calendarName, "invalidProperty", "someValue");
     });
   }
+
+  @Test
+  public void testRenameSelectedCalendarKeepsSelection() {
+    ZoneId timeZone = ZoneId.of("Europe/Paris");
+    calendarManagement.createCalendar("Travel", timeZone);
+    calendarManagement.createCalendar("Home", ZoneId.of("America/New_York"));
+    calendarManagement.selectCalendar("Travel");
+
+    calendarManagement.editCalendar("Travel", "name", "Trips");
+
+    assertEquals(timeZone, calendarManagement.getCalendarTimezone(null));
+    assertEquals(timeZone, calendarManagement.getCalendarTimezone("Trips"));
+    assertNull(calendarManagement.getCalendarTimezone("Travel"));
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendarManagement.editCalendar("Trips", "name", "Home");
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendarManagement.selectCalendar("Travel");
+    });
+  }
 }
@@ -18,6 +18,8 @@ import model.enums.Status;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -167,4 +169,54 @@ public class CalendarCreateEventTest {
       );
     }
   }
+
+  @Test
+  public void testCreateEventSeriesBatch() {
+    EventSeries lecture = new EventSeries("Lecture", LocalDateTime.of(2025, 9, 1, 9, 0));
+    lecture.setEndDateTimeOfSeries(LocalDateTime.of(2025, 9, 1, 10, 0));
+    lecture.setRepeatDays(List.of(DayOfWeek.MONDAY));
+    lecture.setOccurrences(3);
+
+    EventSeries lab = new EventSeries("Lab", LocalDateTime.of(2025, 9, 2, 13, 0));
+    lab.setEndDateTimeOfSeries(LocalDateTime.of(2025, 9, 2, 15, 0));
+    lab.setRepeatDays(List.of(DayOfWeek.TUESDAY));
+    lab.setOccurrences(2);
+
+    List<EventSeries> created = calendar.createEventSeries(List.of(lecture, lab));
+
+    assertEquals(2, created.size());
+    assertEquals(3, created.get(0).getInstances().size());
+    assertEquals(2, created.get(1).getInstances().size());
+  }
+
+  @Test
+  public void testCreateEventSeriesBatchRejectedAsWhole() {
+    EventSeries first = new EventSeries("Lecture", LocalDateTime.of(2025, 9, 1, 9, 0));
+    first.setEndDateTimeOfSeries(LocalDateTime.of(2025, 9, 1, 10, 0));
+    first.setRepeatDays(List.of(DayOfWeek.MONDAY));
+    first.setOccurrences(3);
+
+    EventSeries duplicate = new EventSeries("Lecture", LocalDateTime.of(2025, 9, 3, 9, 0));
+    duplicate.setEndDateTimeOfSeries(LocalDateTime.of(2025, 9, 3, 10, 0));
+    duplicate.setRepeatDays(List.of(DayOfWeek.WEDNESDAY));
+    duplicate.setOccurrences(3);
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEventSeries(List.of(first, duplicate));
+    });
+    assertTrue(calendar.getEventsSingleDay(first.getStartDateTime().toLocalDate()).isEmpty());
+  }
+
+  @Test
+  public void testRepeatedSubjectsShareOneString() {
+    Event first = calendar.createEvent(new String("Standup"), LocalDateTime.of(2025, 4, 1, 9, 0),
+            LocalDateTime.of(2025, 4, 1, 9, 15), new String("Daily"), null, null);
+    Event second = calendar.createEvent(new String("Standup"), LocalDateTime.of(2025, 4, 2, 9, 0),
+            LocalDateTime.of(2025, 4, 2, 9, 15), new String("Daily"), null, null);
+
+    assertSame(first.getSubject(), second.getSubject());
+    assertSame(first.getDescription(), second.getDescription());
+    assertNotNull(calendar.getEvent(new String("Standup"), LocalDateTime.of(2025, 4, 2, 9, 0),
+            null));
+  }
 }
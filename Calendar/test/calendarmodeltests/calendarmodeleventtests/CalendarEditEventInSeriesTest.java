@@ -3,6 +3,7 @@ package calendarmodeltests.calendarmodeleventtests;
 import org.junit.Test;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,6 +17,7 @@ import model.enums.Status;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 
 /**
  * A JUnit test that tests the edit methods of events in a series
@@ -180,4 +182,220 @@ public class CalendarEditEventInSeriesTest extends AbstractCalendarEventTest {
             LocalDateTime.of(2025, 6, 26, 8, 0),
             LocalDateTime.of(2025, 6, 26, 17, 0)));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testEditAllSharesTemplateAcrossInstances() {
+    EventSeries series = calendar.createEventSeries(
+            "Review",
+            LocalDateTime.of(2025, 8, 4, 14, 0),
+            LocalDateTime.of(2025, 8, 4, 15, 0),
+            List.of(DayOfWeek.MONDAY),
+            3,
+            "Code review",
+            Location.ONLINE,
+            Status.PUBLIC
+    );
+    Event first = series.getInstances().get(0);
+    LocalDateTime secondStart = LocalDateTime.of(2025, 8, 11, 14, 0);
+
+    EventInterface single = new Event.CustomEventBuilder()
+            .setSubject("Review")
+            .setStartDateTime(secondStart)
+            .setEndDateTime(secondStart.plusHours(1))
+            .setDescription("Moved to room 2")
+            .build();
+    calendar.editEvent("Review", secondStart, single, EditMode.SINGLE);
+
+    EventInterface all = new Event.CustomEventBuilder()
+            .setSubject("Design Review")
+            .setStartDateTime(first.getStartDateTime())
+            .setEndDateTime(first.getEndDateTime())
+            .setDescription("Design review")
+            .setLocation(Location.PHYSICAL)
+            .setStatus(Status.PRIVATE)
+            .build();
+    calendar.editEvent("Review", first.getStartDateTime(), all, EditMode.ALL);
+
+    assertEquals(first, series.getInstances().get(0));
+    assertEquals("Design Review", first.getSubject());
+    assertEquals(Location.PHYSICAL, first.getLocation());
+    assertNull(calendar.getEvent("Review", first.getStartDateTime(), null));
+    for (Event e : series.getInstances()) {
+      EventInterface updated = calendar.getEvent("Design Review", e.getStartDateTime(), null);
+      assertNotNull(updated);
+      assertEquals("Design review", updated.getDescription());
+      assertEquals(Status.PRIVATE, updated.getStatus());
+    }
+  }
+
+  @Test
+  public void testEditAllStartShiftsEveryInstance() {
+    EventSeries series = calendar.createEventSeries(
+            "Swim",
+            LocalDateTime.of(2025, 9, 1, 23, 0),
+            LocalDateTime.of(2025, 9, 1, 23, 30),
+            List.of(DayOfWeek.MONDAY),
+            3,
+            null,
+            null,
+            null
+    );
+    LocalDateTime second = LocalDateTime.of(2025, 9, 8, 23, 0);
+
+    EventInterface edit = new Event.CustomEventBuilder()
+            .setSubject("Swim")
+            .setStartDateTime(second.plusHours(1))
+            .setEndDateTime(second.plusMinutes(30))
+            .build();
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.editEvent("Swim", second, edit, EditMode.ALL);
+    });
+
+    EventInterface later = new Event.CustomEventBuilder()
+            .setSubject("Swim")
+            .setStartDateTime(second.plusMinutes(30))
+            .setEndDateTime(second.plusHours(1))
+            .build();
+    calendar.editEvent("Swim", second, later, EditMode.ALL);
+
+    assertEquals(3, series.getInstances().size());
+    for (Event instance : series.getInstances()) {
+      assertEquals(23, instance.getStartDateTime().getHour());
+      assertEquals(30, instance.getStartDateTime().getMinute());
+      assertEquals(0, instance.getEndDateTime().getHour());
+    }
+    assertNull(calendar.getEvent("Swim", LocalDateTime.of(2025, 9, 1, 23, 0), null));
+    assertNotNull(calendar.getEvent("Swim", LocalDateTime.of(2025, 9, 15, 23, 30),
+            LocalDateTime.of(2025, 9, 16, 0, 0)));
+    assertEquals(1, calendar.getEventsSingleDay(LocalDate.of(2025, 9, 16)).size());
+  }
+
+  @Test
+  public void testEditFutureSplitsSeries() {
+    EventSeries series = calendar.createEventSeries(
+            "Class",
+            LocalDateTime.of(2025, 10, 6, 10, 0),
+            LocalDateTime.of(2025, 10, 6, 11, 0),
+            List.of(DayOfWeek.MONDAY),
+            5,
+            "Lecture",
+            null,
+            null
+    );
+    LocalDateTime third = LocalDateTime.of(2025, 10, 20, 10, 0);
+
+    EventInterface later = new Event.CustomEventBuilder()
+            .setSubject("Class")
+            .setStartDateTime(third.plusHours(2))
+            .setEndDateTime(third.plusHours(3))
+            .setDescription("Lab")
+            .build();
+    calendar.editEvent("Class", third, later, EditMode.FUTURE);
+
+    assertEquals(2, series.getInstances().size());
+    assertEquals("Lecture", calendar.getEvent("Class",
+            LocalDateTime.of(2025, 10, 13, 10, 0), null).getDescription());
+    assertNull(calendar.getEvent("Class", third, null));
+    assertEquals("Lab", calendar.getEvent("Class",
+            LocalDateTime.of(2025, 11, 3, 12, 0), null).getDescription());
+
+    LocalDateTime fourth = LocalDateTime.of(2025, 10, 27, 12, 0);
+    EventInterface renamed = new Event.CustomEventBuilder()
+            .setSubject("Workshop")
+            .setStartDateTime(fourth)
+            .setEndDateTime(fourth.plusHours(1))
+            .setDescription("Lab")
+            .build();
+    calendar.editEvent("Class", fourth, renamed, EditMode.ALL);
+
+    assertNotNull(calendar.getEvent("Workshop", third.plusHours(2), null));
+    assertNotNull(calendar.getEvent("Workshop", LocalDateTime.of(2025, 11, 3, 12, 0), null));
+    assertEquals("Class", calendar.getEvent("Class",
+            LocalDateTime.of(2025, 10, 6, 10, 0), null).getSubject());
+  }
+
+  @Test
+  public void testEditAllRejectsShiftThatReversesAnEditedInstance() {
+    EventSeries series = calendar.createEventSeries(
+            "Sync",
+            LocalDateTime.of(2025, 9, 1, 9, 0),
+            LocalDateTime.of(2025, 9, 1, 10, 0),
+            List.of(DayOfWeek.MONDAY),
+            4,
+            null,
+            null,
+            null
+    );
+    LocalDateTime first = LocalDateTime.of(2025, 9, 1, 9, 0);
+    LocalDateTime second = LocalDateTime.of(2025, 9, 8, 9, 0);
+
+    EventInterface shorter = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(second)
+            .setEndDateTime(second.plusMinutes(30))
+            .build();
+    calendar.editEvent("Sync", second, shorter, EditMode.SINGLE);
+
+    EventInterface shift = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(first)
+            .setEndDateTime(first.plusMinutes(20))
+            .build();
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.editEvent("Sync", first, shift, EditMode.ALL);
+    });
+
+    assertEquals(4, series.getInstances().size());
+    assertNotNull(calendar.getEvent("Sync", first, first.plusHours(1)));
+    assertNotNull(calendar.getEvent("Sync", second, second.plusMinutes(30)));
+    assertEquals(4, calendar.getEventsWindow(first, LocalDateTime.of(2025, 9, 30, 0, 0))
+            .size());
+    assertEquals(1, calendar.getEventsSingleDay(LocalDate.of(2025, 9, 8)).size());
+  }
+
+  @Test
+  public void testEditFutureValidatesTailAndKeepsSeriesRegistered() {
+    EventSeries series = calendar.createEventSeries(
+            "Sync",
+            LocalDateTime.of(2025, 9, 1, 9, 0),
+            LocalDateTime.of(2025, 9, 1, 10, 0),
+            List.of(DayOfWeek.MONDAY),
+            4,
+            null,
+            null,
+            null
+    );
+    LocalDateTime second = LocalDateTime.of(2025, 9, 8, 9, 0);
+    LocalDateTime third = LocalDateTime.of(2025, 9, 15, 9, 0);
+
+    EventInterface shorter = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(third)
+            .setEndDateTime(third.plusMinutes(30))
+            .build();
+    calendar.editEvent("Sync", third, shorter, EditMode.SINGLE);
+
+    EventInterface shift = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(second)
+            .setEndDateTime(second.plusMinutes(20))
+            .build();
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.editEvent("Sync", second, shift, EditMode.FUTURE);
+    });
+    assertEquals(4, series.getInstances().size());
+    assertEquals(4, calendar.getEventsWindow(second.minusWeeks(1),
+            LocalDateTime.of(2025, 9, 30, 0, 0)).size());
+
+    EventInterface later = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(second.plusHours(1))
+            .setEndDateTime(second.plusHours(2))
+            .build();
+    calendar.editEvent("Sync", second, later, EditMode.FUTURE);
+
+    assertEquals(1, series.getInstances().size());
+    assertEquals(series, calendar.mapSeries.get("Sync"));
+    assertNotNull(calendar.getEvent("Sync", third.plusHours(1), third.plusMinutes(90)));
+  }
+}
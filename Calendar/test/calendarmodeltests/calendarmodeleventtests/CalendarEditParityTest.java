@@ -0,0 +1,96 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import model.calendar.Calendar;
+import model.calendar.CalendarInterface;
+import model.calendar.ColumnarCalendar;
+import model.enums.EditMode;
+import model.event.Event;
+import model.event.EventInterface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that runs the same edits to a series against the Calendar and the
+ * ColumnarCalendar and checks that both end up with the same events after every
+ * edit, including the edits that are rejected.
+ */
+public class CalendarEditParityTest {
+  private static final LocalDateTime FIRST = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+  @Test
+  public void testSeriesEditsMatchAcrossImplementations() {
+    List<String> stored = replay(new Calendar());
+    List<String> columnar = replay(new ColumnarCalendar());
+
+    assertEquals(stored, columnar);
+    assertEquals("rejected", stored.get(2));
+    assertEquals("rejected", stored.get(stored.size() - 1));
+    assertTrue(stored.get(stored.size() - 2).contains("Retro|2025-03-31T10:30"));
+  }
+
+  private List<String> replay(CalendarInterface calendar) {
+    List<Consumer<CalendarInterface>> steps = new ArrayList<>();
+    steps.add(c -> c.createEventSeries("Standup", FIRST, FIRST.plusHours(1),
+            List.of(DayOfWeek.MONDAY), 6, null, null, null));
+    steps.add(c -> c.editEvent("Standup", FIRST.plusWeeks(1),
+            edit("Standup", FIRST.plusWeeks(1), 30, null), EditMode.SINGLE));
+    steps.add(c -> c.editEvent("Standup", FIRST,
+            edit("Standup", FIRST, 20, null), EditMode.ALL));
+    steps.add(c -> c.editEvent("Standup", FIRST,
+            edit("Standup", FIRST.plusHours(1), 60, "Weekly"), EditMode.ALL));
+    steps.add(c -> c.editEvent("Standup", FIRST.plusWeeks(3).plusHours(1),
+            edit("Sync", FIRST.plusWeeks(3).plusMinutes(90), 60, "Weekly"), EditMode.FUTURE));
+    steps.add(c -> c.editEvent("Standup", FIRST.plusWeeks(2).plusHours(1),
+            edit("Standup", FIRST.plusWeeks(2).plusHours(1), 60, "Kept"), EditMode.FUTURE));
+    steps.add(c -> c.editEvent("Sync", FIRST.plusWeeks(4).plusMinutes(90),
+            edit("Retro", FIRST.plusWeeks(4).plusMinutes(90), 60, null), EditMode.ALL));
+    steps.add(c -> c.editEvent("Standup", FIRST.plusHours(1),
+            edit("Standup", FIRST.plusHours(1), 60, "Done"), EditMode.ALL));
+    steps.add(c -> c.createEventSeries("Sync", FIRST.plusDays(1), FIRST.plusDays(1).plusHours(1),
+            List.of(DayOfWeek.TUESDAY), 2, null, null, null));
+    steps.add(c -> c.createEventSeries("Retro", FIRST.plusDays(2),
+            FIRST.plusDays(2).plusHours(1), List.of(DayOfWeek.WEDNESDAY), 2, null, null, null));
+
+    List<String> outcomes = new ArrayList<>();
+    for (Consumer<CalendarInterface> step : steps) {
+      try {
+        step.accept(calendar);
+        outcomes.add(snapshot(calendar));
+      } catch (IllegalArgumentException e) {
+        outcomes.add("rejected");
+      }
+    }
+    return outcomes;
+  }
+
+  private static EventInterface edit(String subject, LocalDateTime start, int minutes,
+                                     String description) {
+    return new Event.CustomEventBuilder()
+            .setSubject(subject)
+            .setStartDateTime(start)
+            .setEndDateTime(start.plusMinutes(minutes))
+            .setDescription(description)
+            .build();
+  }
+
+  private static String snapshot(CalendarInterface calendar) {
+    List<String> events = new ArrayList<>();
+    for (Event e : calendar.getEventsStartingBetween(LocalDate.of(2025, 3, 1),
+            LocalDate.of(2025, 4, 30))) {
+      events.add(e.getSubject() + "|" + e.getStartDateTime() + "|" + e.getEndDateTime()
+              + "|" + e.getDescription());
+    }
+    events.sort(null);
+    return String.join("\n", events);
+  }
+}
@@ -0,0 +1,98 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import model.enums.EditMode;
+import model.event.Event;
+import model.event.EventInterface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that tests the availability checks of the Calendar class.
+ */
+public class CalendarFreeBusyTest extends AbstractCalendarEventTest {
+  @Test
+  public void testBusyIncludesStartAndEnd() {
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 8, 59)));
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 9, 0)));
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 9, 30)));
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 10, 0)));
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 10, 1)));
+  }
+
+  @Test
+  public void testBusyAcrossMidnight() {
+    calendar.createEvent("Night Shift", LocalDateTime.of(2025, 1, 1, 22, 0),
+            LocalDateTime.of(2025, 1, 2, 6, 0), null, null, null);
+
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 1, 1, 23, 59)));
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 1, 2, 0, 0)));
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 1, 2, 6, 1)));
+  }
+
+  @Test
+  public void testBusyAfterEditKeepsOverlappingEvents() {
+    calendar.createEvent("Review", LocalDateTime.of(2025, 7, 14, 9, 30),
+            LocalDateTime.of(2025, 7, 14, 11, 0), null, null, null);
+
+    EventInterface moved = new Event.CustomEventBuilder()
+            .setSubject("Meeting")
+            .setStartDateTime(LocalDateTime.of(2025, 7, 15, 9, 0))
+            .setEndDateTime(LocalDateTime.of(2025, 7, 15, 10, 0))
+            .build();
+    calendar.editEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0), moved, EditMode.SINGLE);
+
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 9, 0)));
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 9, 30)));
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 15, 9, 30)));
+  }
+
+  @Test
+  public void testFindFreeSlot() {
+    calendar.createEvent("Morning", LocalDateTime.of(2025, 2, 3, 9, 0),
+            LocalDateTime.of(2025, 2, 3, 10, 0), null, null, null);
+    calendar.createEvent("Late Morning", LocalDateTime.of(2025, 2, 3, 10, 30),
+            LocalDateTime.of(2025, 2, 3, 12, 0), null, null, null);
+
+    LocalDateTime dayStart = LocalDateTime.of(2025, 2, 3, 9, 0);
+    LocalDateTime dayEnd = LocalDateTime.of(2025, 2, 3, 17, 0);
+
+    assertEquals(LocalDateTime.of(2025, 2, 3, 10, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofMinutes(20)));
+    assertEquals(LocalDateTime.of(2025, 2, 3, 12, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofHours(1)));
+    assertEquals(LocalDateTime.of(2025, 2, 3, 10, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofMinutes(28)));
+    assertEquals(LocalDateTime.of(2025, 2, 3, 12, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofMinutes(29)));
+    assertNull(calendar.findFreeSlot(dayStart, LocalDateTime.of(2025, 2, 3, 12, 30),
+            Duration.ofHours(1)));
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.findFreeSlot(dayStart, dayEnd, Duration.ZERO);
+    });
+  }
+
+  @Test
+  public void testReversedEditLeavesIndexUntouched() {
+    LocalDateTime start = LocalDateTime.of(2025, 7, 14, 9, 0);
+    EventInterface reversed = new Event.CustomEventBuilder()
+            .setSubject("Meeting")
+            .setStartDateTime(start)
+            .setEndDateTime(LocalDateTime.of(2025, 7, 14, 8, 0))
+            .build();
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.editEvent("Meeting", start, reversed, EditMode.SINGLE);
+    });
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 9, 30)));
+    assertEquals(1, calendar.getEventsSingleDay(start.toLocalDate()).size());
+  }
+}
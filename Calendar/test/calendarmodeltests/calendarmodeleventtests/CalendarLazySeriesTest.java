@@ -0,0 +1,210 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.calendar.Calendar;
+import model.enums.EditMode;
+import model.enums.Location;
+import model.event.Event;
+import model.event.EventInterface;
+import model.event.EventSeries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that tests event series created by a calendar with lazy recurrence.
+ */
+public class CalendarLazySeriesTest {
+  private Calendar calendar;
+  private EventSeries series;
+
+  @Before
+  public void setup() {
+    calendar = new Calendar(true);
+    series = calendar.createEventSeries(
+            "Gym",
+            LocalDateTime.of(2025, 1, 6, 7, 0),
+            LocalDateTime.of(2025, 1, 6, 8, 0),
+            List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+            1000,
+            "Morning workout",
+            Location.PHYSICAL,
+            null
+    );
+  }
+
+  @Test
+  public void testOccurrencesGeneratedOnDemand() {
+    assertTrue(series.isLazy());
+    assertTrue(series.getInstances().isEmpty());
+
+    List<Event> week = calendar.getEventsWindow(LocalDateTime.of(2025, 1, 6, 0, 0),
+            LocalDateTime.of(2025, 1, 12, 23, 59));
+    assertEquals(2, week.size());
+    assertEquals(LocalDateTime.of(2025, 1, 8, 7, 0), week.get(1).getStartDateTime());
+    assertEquals("Morning workout", week.get(1).getDescription());
+
+    assertEquals(1, calendar.getEventsSingleDay(LocalDate.of(2030, 1, 7)).size());
+    assertTrue(calendar.getEventsSingleDay(LocalDate.of(2030, 1, 8)).isEmpty());
+    assertTrue(calendar.getEventsSingleDay(LocalDate.of(2040, 1, 9)).isEmpty());
+
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 1, 8, 7, 30)));
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 1, 9, 7, 30)));
+    assertNotNull(calendar.getEvent("Gym", LocalDateTime.of(2025, 1, 13, 7, 0), null));
+  }
+
+  @Test
+  public void testOccurrenceCountRespected() {
+    Calendar shortCalendar = new Calendar(true);
+    shortCalendar.createEventSeries("Class", LocalDateTime.of(2025, 3, 3, 10, 0),
+            LocalDateTime.of(2025, 3, 3, 11, 0), List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            3, null, null, null);
+
+    List<Event> all = shortCalendar.getEventsWindow(LocalDateTime.of(2025, 3, 1, 0, 0),
+            LocalDateTime.of(2025, 4, 1, 0, 0));
+    assertEquals(3, all.size());
+    assertEquals(LocalDateTime.of(2025, 3, 10, 10, 0), all.get(2).getStartDateTime());
+  }
+
+  @Test
+  public void testDuplicateOfOccurrenceRejected() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEvent("Gym", LocalDateTime.of(2025, 1, 8, 7, 0),
+              LocalDateTime.of(2025, 1, 8, 8, 0), null, null, null);
+    });
+  }
+
+  @Test
+  public void testEditSingleOccurrenceIsStored() {
+    LocalDateTime target = LocalDateTime.of(2025, 1, 8, 7, 0);
+    EventInterface edit = new Event.CustomEventBuilder()
+            .setSubject("Yoga")
+            .setStartDateTime(target)
+            .setEndDateTime(target.plusHours(1))
+            .build();
+
+    calendar.editEvent("Gym", target, edit, EditMode.SINGLE);
+
+    assertTrue(series.isLazy());
+    assertEquals(1, series.getInstances().size());
+    assertNull(calendar.getEvent("Gym", target, null));
+    assertEquals("Yoga", calendar.getEvent("Yoga", target, null).getSubject());
+    assertEquals(1, calendar.getEventsSingleDay(target.toLocalDate()).size());
+  }
+
+  @Test
+  public void testEditAllSwapsTemplate() {
+    Calendar shortCalendar = new Calendar(true);
+    EventSeries shortSeries = shortCalendar.createEventSeries("Class",
+            LocalDateTime.of(2025, 3, 3, 10, 0), LocalDateTime.of(2025, 3, 3, 11, 0),
+            List.of(DayOfWeek.MONDAY), 4, null, null, null);
+
+    LocalDateTime first = LocalDateTime.of(2025, 3, 3, 10, 0);
+    EventInterface edit = new Event.CustomEventBuilder()
+            .setSubject("Class")
+            .setStartDateTime(first)
+            .setEndDateTime(first.plusHours(1))
+            .setDescription("Room 101")
+            .build();
+
+    shortCalendar.editEvent("Class", first, edit, EditMode.ALL);
+
+    assertTrue(shortSeries.isLazy());
+    assertTrue(shortSeries.getInstances().isEmpty());
+    List<Event> all = shortCalendar.getEventsWindow(first, first.plusWeeks(4));
+    assertEquals(4, all.size());
+    for (Event e : all) {
+      assertEquals("Room 101", e.getDescription());
+    }
+  }
+
+  @Test
+  public void testEditsFromDetachedOccurrenceMatchStoredSeries() {
+    Calendar lazy = new Calendar(true);
+    Calendar stored = new Calendar();
+    LocalDateTime first = LocalDateTime.of(2025, 3, 3, 9, 0);
+    for (Calendar each : List.of(lazy, stored)) {
+      each.createEventSeries("Standup", first, first.plusHours(1),
+              List.of(DayOfWeek.MONDAY), 6, null, null, null);
+      each.editEvent("Standup", first.plusWeeks(1),
+              edit("Standup", first.plusWeeks(1), "Moved room"), EditMode.SINGLE);
+      each.editEvent("Standup", first.plusWeeks(1),
+              edit("Sync", first.plusWeeks(1), "Renamed"), EditMode.ALL);
+      each.editEvent("Sync", first.plusWeeks(3),
+              edit("Retro", first.plusWeeks(3).plusHours(15), "Late"), EditMode.FUTURE);
+      each.editEvent("Retro", first.plusWeeks(4).plusHours(15),
+              edit("Retro", first.plusWeeks(4).plusHours(15), "Last two"), EditMode.ALL);
+    }
+
+    LocalDateTime from = first.minusDays(1);
+    LocalDateTime to = first.plusWeeks(6);
+    assertEquals(describe(stored.getEventsWindow(from, to)),
+            describe(lazy.getEventsWindow(from, to)));
+    assertNotNull(lazy.getEvent("Sync", first, null));
+    assertNotNull(lazy.getEvent("Retro", first.plusWeeks(5).plusHours(15), null));
+    assertNull(lazy.getEvent("Standup", first.plusWeeks(2), null));
+
+    EventSeries sync = lazy.mapSeries.get("Sync");
+    EventSeries retro = lazy.mapSeries.get("Retro");
+    assertTrue(sync.isLazy());
+    assertTrue(retro.isLazy());
+    assertEquals(1, sync.getInstances().size());
+    assertTrue(retro.getInstances().isEmpty());
+    assertEquals(Integer.valueOf(3), sync.occurrences);
+    assertEquals(Integer.valueOf(3), retro.occurrences);
+  }
+
+  @Test
+  public void testUntilSeriesMatchesStoredSeries() {
+    Calendar lazy = new Calendar(true);
+    Calendar stored = new Calendar();
+    for (Calendar each : List.of(lazy, stored)) {
+      each.createEventSeries("Standup", LocalDateTime.of(2025, 1, 6, 9, 0),
+              LocalDateTime.of(2025, 2, 19, 9, 15), List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+              null, null, null, null);
+      each.createEventSeries("Retro", LocalDateTime.of(2026, 1, 5, 9, 0),
+              LocalDateTime.of(2026, 1, 5, 10, 0), List.of(DayOfWeek.MONDAY),
+              2, null, null, null);
+    }
+
+    LocalDateTime from = LocalDateTime.of(2025, 2, 10, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 3, 31, 0, 0);
+    List<Event> expected = stored.getEventsWindow(from, to);
+    List<Event> actual = lazy.getEventsWindow(from, to);
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getStartDateTime(), actual.get(i).getStartDateTime());
+    }
+    assertEquals(1, lazy.getEventsSingleDay(LocalDate.of(2026, 1, 12)).size());
+  }
+
+  private static EventInterface edit(String subject, LocalDateTime start, String description) {
+    return new Event.CustomEventBuilder()
+            .setSubject(subject)
+            .setStartDateTime(start)
+            .setEndDateTime(start.plusHours(1))
+            .setDescription(description)
+            .build();
+  }
+
+  private static List<String> describe(List<Event> events) {
+    List<String> described = new ArrayList<>();
+    for (Event e : events) {
+      described.add(e.getSubject() + "|" + e.getStartDateTime() + "|" + e.getEndDateTime()
+              + "|" + e.getDescription());
+    }
+    return described;
+  }
+}
@@ -0,0 +1,123 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import model.enums.EditMode;
+import model.event.Event;
+import model.event.EventInterface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that tests the query methods of events within the Calendar class.
+ */
+public class CalendarQueryEventTest extends AbstractCalendarEventTest {
+  @Test
+  public void testEventsWindowOverlap() {
+    calendar.createEvent("Early", LocalDateTime.of(2025, 3, 1, 8, 0),
+            LocalDateTime.of(2025, 3, 1, 9, 0), null, null, null);
+    calendar.createEvent("Late", LocalDateTime.of(2025, 3, 1, 15, 0),
+            LocalDateTime.of(2025, 3, 1, 16, 0), null, null, null);
+    calendar.createEvent("Long", LocalDateTime.of(2025, 2, 27, 8, 0),
+            LocalDateTime.of(2025, 3, 3, 8, 0), null, null, null);
+
+    List<Event> touching = calendar.getEventsWindow(
+            LocalDateTime.of(2025, 3, 1, 9, 0), LocalDateTime.of(2025, 3, 1, 15, 0));
+    assertEquals(3, touching.size());
+    assertEquals("Long", touching.get(0).getSubject());
+    assertEquals("Early", touching.get(1).getSubject());
+    assertEquals("Late", touching.get(2).getSubject());
+
+    List<Event> between = calendar.getEventsWindow(
+            LocalDateTime.of(2025, 3, 1, 10, 0), LocalDateTime.of(2025, 3, 1, 11, 0));
+    assertEquals(1, between.size());
+    assertEquals("Long", between.get(0).getSubject());
+
+    assertTrue(calendar.getEventsWindow(LocalDateTime.of(2025, 3, 4, 0, 0),
+            LocalDateTime.of(2025, 3, 5, 0, 0)).isEmpty());
+  }
+
+  @Test
+  public void testEventsWindowAfterEdit() {
+    calendar.createEventSeries("Standup", LocalDateTime.of(2025, 4, 7, 9, 0),
+            LocalDateTime.of(2025, 4, 7, 9, 15), List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            10, null, null, null);
+
+    LocalDateTime movedFrom = LocalDateTime.of(2025, 4, 11, 9, 0);
+    EventInterface moved = new Event.CustomEventBuilder()
+            .setSubject("Standup")
+            .setStartDateTime(LocalDateTime.of(2025, 4, 12, 9, 0))
+            .setEndDateTime(LocalDateTime.of(2025, 4, 12, 9, 15))
+            .build();
+    calendar.editEvent("Standup", movedFrom, moved, EditMode.SINGLE);
+
+    assertTrue(calendar.getEventsWindow(movedFrom, movedFrom.plusMinutes(15)).isEmpty());
+    assertEquals(1, calendar.getEventsWindow(LocalDateTime.of(2025, 4, 12, 9, 0),
+            LocalDateTime.of(2025, 4, 12, 9, 0)).size());
+    assertEquals(10, calendar.getEventsWindow(LocalDateTime.of(2025, 4, 1, 0, 0),
+            LocalDateTime.of(2025, 6, 1, 0, 0)).size());
+  }
+
+  @Test
+  public void testEventsSingleDaySpanningEvents() {
+    calendar.createEvent("Conference", LocalDateTime.of(2025, 5, 1, 9, 0),
+            LocalDateTime.of(2025, 5, 3, 17, 0), null, null, null);
+    calendar.createEvent("Lunch", LocalDateTime.of(2025, 5, 2, 12, 0),
+            LocalDateTime.of(2025, 5, 2, 13, 0), null, null, null);
+
+    assertEquals(1, calendar.getEventsSingleDay(LocalDate.of(2025, 5, 1)).size());
+    List<Event> middle = calendar.getEventsSingleDay(LocalDate.of(2025, 5, 2));
+    assertEquals(2, middle.size());
+    assertEquals("Conference", middle.get(0).getSubject());
+    assertEquals("Lunch", middle.get(1).getSubject());
+    assertEquals(1, calendar.getEventsSingleDay(LocalDate.of(2025, 5, 3)).size());
+    assertTrue(calendar.getEventsSingleDay(LocalDate.of(2025, 5, 4)).isEmpty());
+  }
+
+  @Test
+  public void testEventsStartingBetweenSorted() {
+    calendar.createEvent("Dinner", LocalDateTime.of(2025, 9, 2, 18, 0),
+            LocalDateTime.of(2025, 9, 2, 19, 0), null, null, null);
+    calendar.createEvent("Breakfast", LocalDateTime.of(2025, 9, 2, 7, 0),
+            LocalDateTime.of(2025, 9, 2, 8, 0), null, null, null);
+    calendar.createEvent("Overnight", LocalDateTime.of(2025, 8, 31, 22, 0),
+            LocalDateTime.of(2025, 9, 1, 6, 0), null, null, null);
+    calendar.createEvent("Later", LocalDateTime.of(2025, 9, 5, 7, 0),
+            LocalDateTime.of(2025, 9, 5, 8, 0), null, null, null);
+
+    List<Event> day = calendar.getEventsSingleDay(LocalDate.of(2025, 9, 2));
+    assertEquals("Breakfast", day.get(0).getSubject());
+    assertEquals("Dinner", day.get(1).getSubject());
+
+    List<Event> range = calendar.getEventsStartingBetween(
+            LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 4));
+    assertEquals(2, range.size());
+    assertEquals("Breakfast", range.get(0).getSubject());
+    assertEquals("Dinner", range.get(1).getSubject());
+
+    assertTrue(calendar.getEventsStartingBetween(
+            LocalDate.of(2025, 9, 4), LocalDate.of(2025, 9, 1)).isEmpty());
+  }
+
+  @Test
+  public void testEventsWindowSecondBoundaries() {
+    calendar.createEvent("Standup", LocalDateTime.of(2025, 10, 6, 9, 0),
+            LocalDateTime.of(2025, 10, 6, 9, 15), null, null, null);
+
+    assertEquals(LocalDateTime.of(2025, 10, 6, 9, 15),
+            calendar.getEvent("Standup", LocalDateTime.of(2025, 10, 6, 9, 0), null)
+                    .getEndDateTime());
+    assertEquals(1, calendar.getEventsWindow(LocalDateTime.of(2025, 10, 6, 9, 15),
+            LocalDateTime.of(2025, 10, 6, 10, 0)).size());
+    assertTrue(calendar.getEventsWindow(LocalDateTime.of(2025, 10, 6, 9, 15, 0, 1),
+            LocalDateTime.of(2025, 10, 6, 10, 0)).isEmpty());
+    assertTrue(calendar.getEventsWindow(LocalDateTime.of(2025, 10, 6, 8, 0),
+            LocalDateTime.of(2025, 10, 6, 8, 59, 59)).isEmpty());
+  }
+}
@@ -0,0 +1,210 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import model.calendar.ColumnarCalendar;
+import model.enums.EditMode;
+import model.enums.Location;
+import model.enums.Status;
+import model.event.Event;
+import model.event.EventInterface;
+import model.event.EventSeries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that tests the ColumnarCalendar class.
+ */
+public class ColumnarCalendarTest {
+  private ColumnarCalendar calendar;
+
+  @Before
+  public void setup() {
+    calendar = new ColumnarCalendar();
+    calendar.createEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            LocalDateTime.of(2025, 7, 14, 10, 0), "Discussion about ethics.",
+            Location.ONLINE, Status.PRIVATE);
+    calendar.createEvent("Wedding", LocalDateTime.of(2025, 6, 10, 8, 0),
+            null, null, null, null);
+  }
+
+  @Test
+  public void testCreateAndGetEvent() {
+    EventInterface meeting = calendar.getEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            null);
+    assertEquals(LocalDateTime.of(2025, 7, 14, 10, 0), meeting.getEndDateTime());
+    assertEquals("Discussion about ethics.", meeting.getDescription());
+    assertEquals(Location.ONLINE, meeting.getLocation());
+    assertEquals(Status.PRIVATE, meeting.getStatus());
+
+    EventInterface wedding = calendar.getEvent("Wedding", LocalDateTime.of(2025, 6, 10, 8, 0),
+            LocalDateTime.of(2025, 6, 10, 17, 0));
+    assertNull(wedding.getDescription());
+    assertNull(wedding.getLocation());
+    assertNull(calendar.getEvent("Unknown", LocalDateTime.of(2025, 6, 10, 8, 0), null));
+  }
+
+  @Test
+  public void testDuplicateEventsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+              LocalDateTime.of(2025, 7, 14, 10, 0), null, null, null);
+    });
+
+    calendar.createEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            LocalDateTime.of(2025, 7, 14, 11, 0), null, null, null);
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.getEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0), null);
+    });
+  }
+
+  @Test
+  public void testQueriesOrderedByStart() {
+    calendar.createEvent("Conference", LocalDateTime.of(2025, 7, 13, 9, 0),
+            LocalDateTime.of(2025, 7, 15, 17, 0), null, null, null);
+    calendar.createEvent("Breakfast", LocalDateTime.of(2025, 7, 14, 7, 0),
+            LocalDateTime.of(2025, 7, 14, 8, 0), null, null, null);
+
+    List<Event> day = calendar.getEventsSingleDay(LocalDate.of(2025, 7, 14));
+    assertEquals(3, day.size());
+    assertEquals("Conference", day.get(0).getSubject());
+    assertEquals("Breakfast", day.get(1).getSubject());
+    assertEquals("Meeting", day.get(2).getSubject());
+
+    assertEquals(2, calendar.getEventsWindow(LocalDateTime.of(2025, 7, 14, 10, 0),
+            LocalDateTime.of(2025, 7, 14, 12, 0)).size());
+    assertEquals(2, calendar.getEventsStartingBetween(LocalDate.of(2025, 7, 14),
+            LocalDate.of(2025, 7, 20)).size());
+  }
+
+  @Test
+  public void testMultiDayEventsFoundAfterEdits() {
+    LocalDateTime start = LocalDateTime.of(2025, 5, 1, 9, 0);
+    calendar.createEvent("Retreat", start, start.plusDays(10), null, null, null);
+    calendar.createEvent("Overnight", LocalDateTime.of(2025, 5, 9, 22, 0),
+            LocalDateTime.of(2025, 5, 10, 6, 0), null, null, null);
+
+    List<Event> day = calendar.getEventsSingleDay(LocalDate.of(2025, 5, 10));
+    assertEquals(2, day.size());
+    assertEquals("Retreat", day.get(0).getSubject());
+    assertEquals("Overnight", day.get(1).getSubject());
+
+    calendar.editEvent("Retreat", start, new Event.CustomEventBuilder()
+            .setSubject("Retreat")
+            .setStartDateTime(start)
+            .setEndDateTime(start.plusHours(8))
+            .build(), EditMode.SINGLE);
+    day = calendar.getEventsSingleDay(LocalDate.of(2025, 5, 10));
+    assertEquals(1, day.size());
+    assertEquals("Overnight", day.get(0).getSubject());
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 5, 10, 5, 0)));
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 5, 2, 9, 0)));
+  }
+
+  @Test
+  public void testSeriesStartCheckedAfterAllDayDefault() {
+    calendar.createEventSeries("Offsite", LocalDateTime.of(2025, 8, 4, 10, 0), null,
+            List.of(DayOfWeek.MONDAY), 2, null, null, null);
+
+    calendar.createEventSeries("Review", LocalDateTime.of(2025, 8, 4, 10, 0),
+            LocalDateTime.of(2025, 8, 4, 11, 0), List.of(DayOfWeek.MONDAY), 2,
+            null, null, null);
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEventSeries("Planning", LocalDateTime.of(2025, 8, 4, 8, 0),
+              LocalDateTime.of(2025, 8, 4, 9, 0), List.of(DayOfWeek.MONDAY), 2,
+              null, null, null);
+    });
+  }
+
+  @Test
+  public void testEditSeriesModes() {
+    EventSeries series = calendar.createEventSeries("Standup",
+            LocalDateTime.of(2025, 3, 3, 9, 0), LocalDateTime.of(2025, 3, 3, 9, 15),
+            List.of(DayOfWeek.MONDAY), 4, null, null, null);
+    assertEquals(4, series.getInstances().size());
+
+    LocalDateTime third = LocalDateTime.of(2025, 3, 17, 9, 0);
+    EventInterface future = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(third)
+            .setEndDateTime(third.plusMinutes(15))
+            .setDescription("Moved online")
+            .setLocation(Location.ONLINE)
+            .build();
+    calendar.editEvent("Standup", third, future, EditMode.FUTURE);
+
+    assertEquals("Standup", calendar.getEvent("Standup",
+            LocalDateTime.of(2025, 3, 10, 9, 0), null).getSubject());
+    assertEquals(Location.ONLINE, calendar.getEvent("Sync", third, null).getLocation());
+    assertEquals(Location.ONLINE, calendar.getEvent("Sync",
+            LocalDateTime.of(2025, 3, 24, 9, 0), null).getLocation());
+
+    EventInterface all = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(third)
+            .setEndDateTime(third.plusMinutes(15))
+            .setDescription("Weekly")
+            .build();
+    calendar.editEvent("Sync", third, all, EditMode.ALL);
+
+    List<Event> month = calendar.getEventsStartingBetween(LocalDate.of(2025, 3, 1),
+            LocalDate.of(2025, 3, 31));
+    assertEquals(4, month.size());
+    for (Event e : month) {
+      boolean split = !e.getStartDateTime().isBefore(third);
+      assertEquals(split ? "Sync" : "Standup", e.getSubject());
+      assertEquals(split ? "Weekly" : null, e.getDescription());
+    }
+  }
+
+  @Test
+  public void testEditSingleMovesEvent() {
+    LocalDateTime start = LocalDateTime.of(2025, 7, 14, 9, 0);
+    EventInterface moved = new Event.CustomEventBuilder()
+            .setSubject("Meeting")
+            .setStartDateTime(start.plusDays(1))
+            .setEndDateTime(start.plusDays(1).plusHours(1))
+            .build();
+    calendar.editEvent("Meeting", start, moved, EditMode.SINGLE);
+
+    assertNull(calendar.getEvent("Meeting", start, null));
+    assertTrue(calendar.getEventsSingleDay(start.toLocalDate()).isEmpty());
+    assertEquals(1, calendar.getEventsSingleDay(start.toLocalDate().plusDays(1)).size());
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.editEvent("Meeting", start, moved, EditMode.SINGLE);
+    });
+  }
+
+  @Test
+  public void testBusyAndFreeSlot() {
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 10, 0)));
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 10, 1)));
+
+    calendar.createEvent("Review", LocalDateTime.of(2025, 7, 14, 10, 30),
+            LocalDateTime.of(2025, 7, 14, 12, 0), null, null, null);
+    LocalDateTime dayStart = LocalDateTime.of(2025, 7, 14, 9, 0);
+    LocalDateTime dayEnd = LocalDateTime.of(2025, 7, 14, 17, 0);
+
+    assertEquals(LocalDateTime.of(2025, 7, 14, 10, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofMinutes(20)));
+    assertEquals(LocalDateTime.of(2025, 7, 14, 12, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofHours(1)));
+    assertEquals(LocalDateTime.of(2025, 7, 14, 10, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofMinutes(28)));
+    assertEquals(LocalDateTime.of(2025, 7, 14, 12, 1),
+            calendar.findFreeSlot(dayStart, dayEnd, Duration.ofMinutes(29)));
+    assertNull(calendar.findFreeSlot(dayStart, LocalDateTime.of(2025, 7, 14, 12, 30),
+            Duration.ofHours(1)));
+  }
+}
@@ -0,0 +1,143 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import model.calendar.SnapshotCalendar;
+import model.enums.EditMode;
+import model.enums.Location;
+import model.event.Event;
+import model.event.EventInterface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that tests the SnapshotCalendar class.
+ */
+public class SnapshotCalendarTest {
+  private SnapshotCalendar calendar;
+
+  @Before
+  public void setup() {
+    calendar = new SnapshotCalendar();
+    calendar.createEvent("Conference", LocalDateTime.of(2025, 7, 13, 9, 0),
+            LocalDateTime.of(2025, 7, 15, 17, 0), null, null, null);
+    calendar.createEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            LocalDateTime.of(2025, 7, 14, 10, 0), null, null, null);
+    calendar.createEventSeries("Standup", LocalDateTime.of(2025, 7, 7, 8, 0),
+            LocalDateTime.of(2025, 7, 7, 8, 15), List.of(DayOfWeek.MONDAY), 4,
+            null, null, null);
+  }
+
+  @Test
+  public void testQueriesSeeCreatedEvents() {
+    List<Event> day = calendar.getEventsSingleDay(LocalDate.of(2025, 7, 14));
+    assertEquals(3, day.size());
+    assertEquals("Conference", day.get(0).getSubject());
+    assertEquals("Standup", day.get(1).getSubject());
+    assertEquals("Meeting", day.get(2).getSubject());
+
+    assertEquals(2, calendar.getEventsWindow(LocalDateTime.of(2025, 7, 14, 9, 30),
+            LocalDateTime.of(2025, 7, 14, 12, 0)).size());
+    assertEquals(4, calendar.getEventsStartingBetween(LocalDate.of(2025, 7, 14),
+            LocalDate.of(2025, 7, 31)).size());
+    assertTrue(calendar.isBusy(LocalDateTime.of(2025, 7, 14, 10, 0)));
+    assertFalse(calendar.isBusy(LocalDateTime.of(2025, 7, 16, 10, 0)));
+    assertEquals(LocalDateTime.of(2025, 7, 15, 17, 1),
+            calendar.findFreeSlot(LocalDateTime.of(2025, 7, 14, 9, 0),
+                    LocalDateTime.of(2025, 7, 16, 9, 0), Duration.ofHours(1)));
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+              LocalDateTime.of(2025, 7, 14, 10, 0), null, null, null);
+    });
+  }
+
+  @Test
+  public void testEditsPublishNewSnapshot() {
+    List<Event> before = calendar.getEventsStartingBetween(LocalDate.of(2025, 7, 1),
+            LocalDate.of(2025, 7, 31));
+
+    LocalDateTime third = LocalDateTime.of(2025, 7, 21, 8, 0);
+    EventInterface updated = new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(third)
+            .setEndDateTime(third.plusMinutes(15))
+            .setLocation(Location.ONLINE)
+            .build();
+    calendar.editEvent("Standup", third, updated, EditMode.ALL);
+
+    for (Event e : before) {
+      assertFalse(e.getSubject().equals("Sync"));
+    }
+    assertNull(calendar.getEvent("Standup", LocalDateTime.of(2025, 7, 7, 8, 0), null));
+    assertEquals(Location.ONLINE, calendar.getEvent("Sync",
+            LocalDateTime.of(2025, 7, 7, 8, 0), null).getLocation());
+
+    LocalDateTime moved = LocalDateTime.of(2025, 7, 14, 11, 0);
+    calendar.editEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            new Event.CustomEventBuilder()
+                    .setSubject("Meeting")
+                    .setStartDateTime(moved)
+                    .setEndDateTime(moved.plusHours(1))
+                    .build(), EditMode.SINGLE);
+    assertNull(calendar.getEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0), null));
+    assertEquals(moved.plusHours(1),
+            calendar.getEvent("Meeting", moved, null).getEndDateTime());
+  }
+
+  @Test
+  public void testQueriesNeverSeePartialSeriesEdit() throws InterruptedException {
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<Set<String>> torn = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      while (!done.get()) {
+        Set<String> subjects = new HashSet<>();
+        for (Event e : calendar.getEventsWindow(LocalDateTime.of(2025, 7, 7, 0, 0),
+                LocalDateTime.of(2025, 7, 31, 0, 0))) {
+          if (e.getStartDateTime().getHour() == 8) {
+            subjects.add(e.getSubject() + "@" + e.getStartDateTime().getMinute());
+          }
+        }
+        if (subjects.size() != 1) {
+          torn.set(subjects);
+        }
+      }
+    });
+    reader.start();
+
+    String subject = "Standup";
+    for (int i = 0; i < 200; i++) {
+      String next = subject.equals("Standup") ? "Sync" : "Standup";
+      LocalDateTime start = LocalDateTime.of(2025, 7, 14, 8, i % 2 == 0 ? 0 : 30);
+      LocalDateTime newStart = LocalDateTime.of(2025, 7, 14, 8, i % 2 == 0 ? 30 : 0);
+      calendar.editEvent(subject, start, new Event.CustomEventBuilder()
+              .setSubject(next)
+              .setStartDateTime(newStart)
+              .setEndDateTime(newStart.plusMinutes(15))
+              .build(), EditMode.ALL);
+      subject = next;
+    }
+    done.set(true);
+    reader.join();
+
+    assertNull(torn.get());
+    assertEquals(4, calendar.getEventsStartingBetween(LocalDate.of(2025, 7, 7),
+            LocalDate.of(2025, 7, 28)).stream()
+            .filter(e -> e.getSubject().equals("Standup")).count());
+  }
+}
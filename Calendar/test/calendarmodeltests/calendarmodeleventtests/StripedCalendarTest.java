@@ -0,0 +1,196 @@
+package calendarmodeltests.calendarmodeleventtests;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import model.calendar.StripedCalendar;
+import model.enums.EditMode;
+import model.event.Event;
+import model.event.EventInterface;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test that tests the StripedCalendar class.
+ */
+public class StripedCalendarTest {
+
+  @Test
+  public void testSingleAndSeriesEdits() {
+    StripedCalendar calendar = new StripedCalendar();
+    calendar.createEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            LocalDateTime.of(2025, 7, 14, 10, 0), null, null, null);
+    calendar.createEventSeries("Standup", LocalDateTime.of(2025, 7, 7, 8, 0),
+            LocalDateTime.of(2025, 7, 7, 8, 15), List.of(DayOfWeek.MONDAY), 4,
+            null, null, null);
+
+    LocalDateTime moved = LocalDateTime.of(2025, 9, 1, 9, 0);
+    calendar.editEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0),
+            new Event.CustomEventBuilder()
+                    .setSubject("Meeting")
+                    .setStartDateTime(moved)
+                    .setEndDateTime(moved.plusHours(1))
+                    .build(), EditMode.SINGLE);
+    assertNull(calendar.getEvent("Meeting", LocalDateTime.of(2025, 7, 14, 9, 0), null));
+    assertEquals(1, calendar.getEventsSingleDay(moved.toLocalDate()).size());
+
+    LocalDateTime second = LocalDateTime.of(2025, 7, 14, 8, 0);
+    EventInterface later = new Event.CustomEventBuilder()
+            .setSubject("Standup")
+            .setStartDateTime(second.plusDays(3))
+            .setEndDateTime(second.plusDays(3).plusMinutes(15))
+            .build();
+    calendar.editEvent("Standup", second, later, EditMode.ALL);
+    assertEquals(4, calendar.getEventsStartingBetween(LocalDate.of(2025, 7, 1),
+            LocalDate.of(2025, 7, 31)).size());
+    assertEquals(DayOfWeek.THURSDAY, calendar.getEvent("Standup",
+            LocalDateTime.of(2025, 7, 10, 8, 0), null).getStartDateTime().getDayOfWeek());
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.editEvent("Standup", second, later, EditMode.ALL);
+    });
+  }
+
+  @Test
+  public void testWritersOnDifferentWeeks() throws Exception {
+    StripedCalendar calendar = new StripedCalendar();
+    calendar.createEventSeries("Standup", LocalDateTime.of(2025, 1, 6, 8, 0),
+            LocalDateTime.of(2025, 1, 6, 8, 15), List.of(DayOfWeek.MONDAY), 52,
+            null, null, null);
+
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int week = 0; week < 52; week++) {
+      LocalDateTime monday = LocalDateTime.of(2025, 1, 6, 0, 0).plusWeeks(week);
+      tasks.add(pool.submit(() -> {
+        for (int hour = 9; hour < 17; hour++) {
+          LocalDateTime start = monday.withHour(hour);
+          calendar.createEvent("Work", start, start.plusMinutes(30), null, null, null);
+          calendar.editEvent("Work", start, new Event.CustomEventBuilder()
+                  .setSubject("Done")
+                  .setStartDateTime(start.plusDays(1))
+                  .setEndDateTime(start.plusDays(1).plusMinutes(30))
+                  .build(), EditMode.SINGLE);
+        }
+      }));
+    }
+    LocalDateTime first = LocalDateTime.of(2025, 1, 6, 8, 0);
+    calendar.editEvent("Standup", first, new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(first)
+            .setEndDateTime(first.plusMinutes(15))
+            .build(), EditMode.ALL);
+    for (Future<?> task : tasks) {
+      task.get();
+    }
+    pool.shutdown();
+
+    List<Event> year = calendar.getEventsStartingBetween(LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 12, 31));
+    assertEquals(52 * 9, year.size());
+    assertEquals(52 * 8, year.stream().filter(e -> e.getSubject().equals("Done")).count());
+    assertEquals(52, year.stream().filter(e -> e.getSubject().equals("Sync")).count());
+  }
+
+  @Test
+  public void testQueriesMergeStripesAndSeries() {
+    StripedCalendar calendar = new StripedCalendar();
+    LocalDateTime monday = LocalDateTime.of(2025, 7, 7, 9, 0);
+    calendar.createEventSeries("Standup", monday, monday.plusMinutes(30),
+            List.of(DayOfWeek.MONDAY), 4, null, null, null);
+    calendar.createEvent("Trip", monday.minusDays(10), monday.plusHours(1), null, null, null);
+    calendar.createEvent("Review", monday.plusHours(2), monday.plusHours(3), null, null, null);
+
+    assertEquals(3, calendar.getEventsSingleDay(monday.toLocalDate()).size());
+    assertEquals(List.of("Trip", "Standup", "Review"), calendar
+            .getEventsWindow(monday, monday.plusHours(2)).stream()
+            .map(Event::getSubject).collect(Collectors.toList()));
+    assertTrue(calendar.isBusy(monday.minusDays(3)));
+    assertFalse(calendar.isBusy(monday.plusMinutes(90)));
+    assertEquals(monday.plusMinutes(61), calendar.findFreeSlot(monday.minusHours(1),
+            monday.plusHours(5), Duration.ofMinutes(30)));
+    assertEquals(monday.plusHours(3).plusMinutes(1), calendar.findFreeSlot(monday,
+            monday.plusHours(5), Duration.ofMinutes(90)));
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEvent("Standup", monday.plusWeeks(1), monday.plusWeeks(1).plusMinutes(30),
+              null, null, null);
+    });
+  }
+
+  @Test
+  public void testSeriesEditsMoveAcrossStripes() throws Exception {
+    StripedCalendar calendar = new StripedCalendar();
+    LocalDateTime first = LocalDateTime.of(2025, 1, 6, 9, 0);
+    calendar.createEventSeries("Standup", first, first.plusMinutes(15),
+            List.of(DayOfWeek.MONDAY), 3, null, null, null);
+
+    LocalDateTime moved = first.plusWeeks(70).plusDays(2);
+    calendar.editEvent("Standup", first, new Event.CustomEventBuilder()
+            .setSubject("Sync")
+            .setStartDateTime(moved)
+            .setEndDateTime(moved.plusMinutes(15))
+            .build(), EditMode.ALL);
+    assertTrue(calendar.getEventsStartingBetween(first.toLocalDate(),
+            first.plusWeeks(3).toLocalDate()).isEmpty());
+    assertEquals(1, calendar.getEventsSingleDay(moved.plusWeeks(2).toLocalDate()).size());
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEvent("Sync", moved.plusWeeks(1), moved.plusWeeks(1).plusMinutes(15),
+              null, null, null);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      calendar.createEventSeries("Sync", first.plusYears(3), first.plusYears(3).plusHours(1),
+              List.of(DayOfWeek.FRIDAY), 2, null, null, null);
+    });
+    calendar.createEventSeries("Standup", first.plusYears(3), first.plusYears(3).plusHours(1),
+            List.of(DayOfWeek.FRIDAY), 2, null, null, null);
+    calendar.editEvent("Sync", moved.plusWeeks(1), new Event.CustomEventBuilder()
+            .setSubject("Retro")
+            .setStartDateTime(moved.plusWeeks(1))
+            .setEndDateTime(moved.plusWeeks(1).plusMinutes(15))
+            .build(), EditMode.ALL);
+    assertNull(calendar.getEvent("Sync", moved.plusWeeks(2), null));
+    assertEquals("Retro", calendar.getEvent("Retro", moved.plusWeeks(2), null).getSubject());
+
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      LocalDateTime start = LocalDateTime.of(2026, 1, 5, 9, 0).plusWeeks(3L * i);
+      String subject = "Series " + i;
+      tasks.add(pool.submit(() -> {
+        calendar.createEventSeries(subject, start, start.plusHours(1),
+                List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), 4, null, null, null);
+        calendar.editEvent(subject, start.plusDays(1), new Event.CustomEventBuilder()
+                .setSubject(subject)
+                .setStartDateTime(start.plusDays(3))
+                .setEndDateTime(start.plusDays(3).plusHours(1))
+                .build(), EditMode.ALL);
+      }));
+    }
+    for (Future<?> task : tasks) {
+      task.get();
+    }
+    pool.shutdown();
+
+    List<Event> shifted = calendar.getEventsStartingBetween(LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 12, 31)).stream()
+            .filter(e -> e.getSubject().startsWith("Series")).collect(Collectors.toList());
+    assertEquals(16 * 4, shifted.size());
+    assertEquals(16 * 2, shifted.stream()
+            .filter(e -> e.getStartDateTime().getDayOfWeek() == DayOfWeek.THURSDAY).count());
+  }
+}